@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.controls.behavior;
+
+import java.time.LocalDateTime;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.skins.JFXDateTimePickerSkin;
+import com.sun.javafx.scene.control.behavior.ComboBoxBaseBehavior;
+
+import javafx.scene.control.PopupControl;
+
+/**
+ * JFXDateTimePickerBehavior of the OpenJFX 17 build, the key bindings
+ * come from the input map of {@link ComboBoxBaseBehavior}.
+ * 
+ * @author Roman Gorovoy
+ */
+public class JFXDateTimePickerBehavior extends ComboBoxBaseBehavior<LocalDateTime> {
+
+    /***************************************************************************
+     *                                                                         *
+     * Constructors                                                            *
+     *                                                                         *
+     **************************************************************************/
+
+    public JFXDateTimePickerBehavior(final JFXDateTimePicker dateTimePicker) {
+        super(dateTimePicker);
+    }
+
+    /**************************************************************************
+     *                                                                        *
+     * Mouse Events handling (when losing focus)                              *
+     *                                                                        *
+     *************************************************************************/
+
+    @Override
+    public void onAutoHide(PopupControl popup) {
+        JFXDateTimePicker dateTimePicker = (JFXDateTimePicker) getNode();
+        JFXDateTimePickerSkin cpSkin = (JFXDateTimePickerSkin) dateTimePicker.getSkin();
+        cpSkin.syncWithAutoUpdate();
+        if (!dateTimePicker.isShowing()) {
+            super.onAutoHide(popup);
+        }
+    }
+}
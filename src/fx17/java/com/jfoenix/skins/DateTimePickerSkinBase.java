@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.skins;
+
+import java.time.LocalDateTime;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.controls.behavior.JFXDateTimePickerBehavior;
+
+import javafx.beans.value.ObservableValue;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.control.PopupControl;
+import javafx.scene.control.skin.ComboBoxBaseSkin;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+/**
+ * DateTimePickerSkinBase keeps the parts of {@link JFXDateTimePickerSkin} that
+ * depend on the OpenJFX 17 public ComboBoxBaseSkin.
+ * <p>The public skin doesn't expose its behavior nor its arrow button, so this
+ * class owns the behavior, finds the arrow button by its style class, and
+ * provides the string keyed property listeners of the JavaFX 8 skins.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public abstract class DateTimePickerSkinBase extends ComboBoxBaseSkin<LocalDateTime> {
+
+    private final JFXDateTimePickerBehavior behavior;
+    private StackPane arrowButton;
+
+    protected DateTimePickerSkinBase(JFXDateTimePicker dateTimePicker) {
+        super(dateTimePicker);
+        behavior = new JFXDateTimePickerBehavior(dateTimePicker);
+        // the arrow button handlers of the base skin ask for a behavior it can't get
+        // from a skin out of its package, the events are handled here before them
+        StackPane button = getArrowButton();
+        button.addEventFilter(MouseEvent.MOUSE_ENTERED, this::handleArrowButtonEvent);
+        button.addEventFilter(MouseEvent.MOUSE_PRESSED, this::handleArrowButtonEvent);
+        button.addEventFilter(MouseEvent.MOUSE_RELEASED, this::handleArrowButtonEvent);
+        button.addEventFilter(MouseEvent.MOUSE_EXITED, this::handleArrowButtonEvent);
+    }
+
+    private void handleArrowButtonEvent(MouseEvent event) {
+        // the base skin only listens to the arrow button of an editable picker,
+        // otherwise the events reach the behavior through the picker
+        if (!getSkinnable().isEditable()) {
+            return;
+        }
+        EventType<? extends MouseEvent> type = event.getEventType();
+        if (type == MouseEvent.MOUSE_ENTERED) {
+            behavior.mouseEntered(event);
+        } else if (type == MouseEvent.MOUSE_PRESSED) {
+            behavior.mousePressed(event);
+        } else if (type == MouseEvent.MOUSE_RELEASED) {
+            behavior.mouseReleased(event);
+        } else {
+            behavior.mouseExited(event);
+        }
+        event.consume();
+    }
+
+    protected final StackPane getArrowButton() {
+        if (arrowButton == null) {
+            for (Node child : getChildren()) {
+                if (child.getStyleClass().contains("arrow-button")) {
+                    arrowButton = (StackPane) child;
+                    break;
+                }
+            }
+        }
+        return arrowButton;
+    }
+
+    /**
+     * replaces the arrow shown in the arrow button
+     */
+    protected final void setArrow(Region glyph) {
+        StackPane button = getArrowButton();
+        for (Node child : button.getChildren()) {
+            if (child.getStyleClass().contains("arrow")) {
+                // the base skin sizes the arrow button from its own arrow,
+                // which stays hidden with the size of the glyph
+                Region arrow = (Region) child;
+                arrow.setVisible(false);
+                arrow.prefWidthProperty().bind(glyph.prefWidthProperty());
+                arrow.prefHeightProperty().bind(glyph.prefHeightProperty());
+                button.getChildren().setAll(arrow, glyph);
+                return;
+            }
+        }
+        button.getChildren().setAll(glyph);
+    }
+
+    /**
+     * called when the popup is hidden by a click outside of it
+     */
+    protected final void onPopupAutoHide(PopupControl popup) {
+        behavior.onAutoHide(popup);
+    }
+
+    /**
+     * the property is passed to {@link #handleControlPropertyChanged(String)}
+     * with the specified reference each time it changes
+     */
+    protected final void registerChangeListener(ObservableValue<?> property, String reference) {
+        registerChangeListener(property, observable -> handleControlPropertyChanged(reference));
+    }
+
+    protected void handleControlPropertyChanged(String p) {
+    }
+
+    @Override
+    public void dispose() {
+        behavior.dispose();
+        super.dispose();
+    }
+}
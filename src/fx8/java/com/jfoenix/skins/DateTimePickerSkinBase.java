@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.skins;
+
+import java.time.LocalDateTime;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.controls.behavior.JFXDateTimePickerBehavior;
+import com.sun.javafx.scene.control.skin.ComboBoxBaseSkin;
+
+import javafx.scene.control.PopupControl;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+/**
+ * DateTimePickerSkinBase keeps the parts of {@link JFXDateTimePickerSkin} that
+ * depend on the JavaFX 8 ComboBoxBaseSkin internals.
+ * <p>The OpenJFX 17 build has its own version of this class, built on the
+ * public {@code javafx.scene.control.skin} API.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public abstract class DateTimePickerSkinBase extends ComboBoxBaseSkin<LocalDateTime> {
+
+    protected DateTimePickerSkinBase(JFXDateTimePicker dateTimePicker) {
+        super(dateTimePicker, new JFXDateTimePickerBehavior(dateTimePicker));
+    }
+
+    protected final StackPane getArrowButton() {
+        return arrowButton;
+    }
+
+    /**
+     * replaces the arrow shown in the arrow button
+     */
+    protected final void setArrow(Region glyph) {
+        arrow = glyph;
+        arrowButton.getChildren().setAll(glyph);
+    }
+
+    /**
+     * called when the popup is hidden by a click outside of it
+     */
+    protected final void onPopupAutoHide(PopupControl popup) {
+        getBehavior().onAutoHide();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.format.FormatStyle;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+
+import javafx.util.StringConverter;
+import javafx.util.converter.LocalDateTimeStringConverter;
+
+/**
+ * compares the default converter of {@link JFXDateTimePicker} with the JavaFX
+ * {@link LocalDateTimeStringConverter}, the converters don't need the FX application thread.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    @Param({"picker", "javafx"})
+    public String converterType;
+
+    private StringConverter<LocalDateTime> converter;
+    private LocalDateTime dateTime;
+    private String text;
+    private String shortText;
+
+    @Setup
+    public void setUp() throws Exception {
+        HeadlessFx.start();
+        if ("javafx".equals(converterType)) {
+            converter = new LocalDateTimeStringConverter(FormatStyle.SHORT, FormatStyle.SHORT, Locale.getDefault(), null);
+        } else {
+            converter = HeadlessFx.call(() -> new JFXDateTimePicker().getConverter());
+        }
+        dateTime = LocalDateTime.of(2018, 11, 23, 14, 35);
+        text = converter.toString(dateTime);
+        shortText = text.replace("2018", "18");
+    }
+
+    @Benchmark
+    public String format() {
+        return converter.toString(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parse() {
+        return converter.fromString(text);
+    }
+
+    @Benchmark
+    public LocalDateTime parseTwoDigitYear() {
+        return converter.fromString(shortText);
+    }
+}
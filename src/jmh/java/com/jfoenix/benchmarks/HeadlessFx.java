@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.benchmarks;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.sun.javafx.application.PlatformImpl;
+
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ * starts the JavaFX toolkit once per benchmark JVM and runs the benchmark code
+ * on the FX application thread. The benchmarks are forked with the headless
+ * Monocle platform (see the jmh block of build.gradle), so no display is needed.
+ *
+ * @author Roman Gorovoy
+ */
+public final class HeadlessFx {
+
+    private static boolean started = false;
+
+    private HeadlessFx() {
+    }
+
+    public static synchronized void start() throws InterruptedException {
+        if (started) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        PlatformImpl.startup(latch::countDown);
+        latch.await();
+        // the toolkit must stay alive between the stages of the trials
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * runs the task on the FX application thread and waits for its result
+     */
+    public static <T> T call(Callable<T> task) throws Exception {
+        if (Platform.isFxApplicationThread()) {
+            return task.call();
+        }
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof Exception ? (Exception) cause : ex;
+        }
+    }
+
+    /**
+     * runs the task on the FX application thread and waits for it to complete
+     */
+    public static void run(Runnable task) throws Exception {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * creates a stage showing the specified root, must be called on the FX application thread
+     */
+    public static Stage show(Parent root) {
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root == null ? new StackPane() : root, 800, 600));
+        stage.show();
+        return stage;
+    }
+}
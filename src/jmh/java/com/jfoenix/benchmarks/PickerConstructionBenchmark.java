@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.skins.JFXDateTimePickerSkin;
+
+import javafx.scene.control.Skin;
+
+/**
+ * measures the construction of a {@link JFXDateTimePicker}, with and without its skin.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PickerConstructionBenchmark {
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        HeadlessFx.start();
+    }
+
+    @Benchmark
+    public JFXDateTimePicker construct() throws Exception {
+        return HeadlessFx.call(JFXDateTimePicker::new);
+    }
+
+    @Benchmark
+    public Skin<?> constructWithSkin() throws Exception {
+        return HeadlessFx.call(() -> new JFXDateTimePickerSkin(new JFXDateTimePicker()));
+    }
+}
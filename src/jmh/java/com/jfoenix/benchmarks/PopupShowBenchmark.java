@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.skins.JFXDateTimePickerSkin;
+
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+/**
+ * measures the first {@link JFXDateTimePickerSkin#show()} of a new picker, which builds
+ * the popup content unless it's taken from the shared content pool.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PopupShowBenchmark {
+
+    @Param({"false", "true"})
+    public boolean sharedPopupContent;
+
+    private Stage stage;
+    private StackPane root;
+    private JFXDateTimePicker picker;
+    private JFXDateTimePickerSkin skin;
+
+    @Setup(Level.Trial)
+    public void setUpStage() throws Exception {
+        HeadlessFx.start();
+        HeadlessFx.run(() -> {
+            root = new StackPane();
+            stage = HeadlessFx.show(root);
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpPicker() throws Exception {
+        HeadlessFx.run(() -> {
+            picker = new JFXDateTimePicker();
+            picker.setSharedPopupContent(sharedPopupContent);
+            skin = new JFXDateTimePickerSkin(picker);
+            picker.setSkin(skin);
+            root.getChildren().setAll(picker);
+            root.applyCss();
+            root.layout();
+        });
+    }
+
+    @Benchmark
+    public void show() throws Exception {
+        HeadlessFx.run(skin::show);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownPicker() throws Exception {
+        HeadlessFx.run(() -> {
+            skin.hide();
+            root.getChildren().clear();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownStage() throws Exception {
+        HeadlessFx.run(stage::close);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.skins.JFXDateTimePickerSkin;
+
+/**
+ * measures the creation and disposal of a {@link JFXDateTimePickerSkin} on an existing
+ * picker, the results of a revision are compared by running it on both revisions.
+ * Each skin is created on a fresh picker, so the listeners leaked by the dispose()
+ * of older revisions don't pile up on the picker and slow down the next iterations.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SkinCreationBenchmark {
+
+    private static final int BATCH = 16;
+
+    private final JFXDateTimePicker[] pickers = new JFXDateTimePicker[BATCH];
+
+    @Setup
+    public void setUp() throws Exception {
+        HeadlessFx.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void createPickers() throws Exception {
+        HeadlessFx.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                pickers[i] = new JFXDateTimePicker();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void createSkin() throws Exception {
+        HeadlessFx.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                JFXDateTimePickerSkin skin = new JFXDateTimePickerSkin(pickers[i]);
+                // the listeners added to the picker are removed
+                skin.dispose();
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.skins;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jfoenix.benchmarks.HeadlessFx;
+import com.jfoenix.controls.JFXDateTimePicker;
+
+import javafx.stage.Stage;
+
+/**
+ * measures the handling of one clock drag event, replaying a full turn of the
+ * hours pointer in one FX thread round trip.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClockDragBenchmark {
+
+    private static final int POSITIONS = 60;
+
+    @Param({"false", "true"})
+    public boolean coalesceClockDrag;
+
+    private final double[] dx = new double[POSITIONS];
+    private final double[] dy = new double[POSITIONS];
+
+    private Stage stage;
+    private JFXDateTimePickerContent content;
+
+    @Setup
+    public void setUp() throws Exception {
+        for (int i = 0; i < POSITIONS; i++) {
+            double theta = 2 * Math.PI * i / POSITIONS;
+            dx[i] = Math.cos(theta) * 80;
+            dy[i] = Math.sin(theta) * 80;
+        }
+        HeadlessFx.start();
+        HeadlessFx.run(() -> {
+            JFXDateTimePicker picker = new JFXDateTimePicker(LocalDateTime.of(2018, 11, 23, 14, 35));
+            picker.setCoalesceClockDrag(coalesceClockDrag);
+            content = new JFXDateTimePickerContent(picker);
+            stage = HeadlessFx.show(content);
+            content.init();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public void drag() throws Exception {
+        HeadlessFx.run(() -> {
+            for (int i = 0; i < POSITIONS; i++) {
+                content.moveClockPointer(dx[i], dy[i], true);
+            }
+            content.moveClockPointer(dx[0], dy[0], false);
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        HeadlessFx.run(stage::close);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.skins;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.jfoenix.benchmarks.HeadlessFx;
+import com.jfoenix.controls.JFXDateTimePicker;
+
+import javafx.stage.Stage;
+
+/**
+ * measures the month navigation and the day cells refresh of a shown popup content.
+ * the operations are batched in one FX thread round trip to keep the hand-off
+ * to the FX application thread out of the results.
+ *
+ * @author Roman Gorovoy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateTimePickerContentBenchmark {
+
+    private static final int BATCH = 24;
+
+    @Param({"false", "true"})
+    public boolean incrementalCellRefresh;
+
+    private Stage stage;
+    private JFXDateTimePickerContent content;
+
+    @Setup
+    public void setUp() throws Exception {
+        HeadlessFx.start();
+        HeadlessFx.run(() -> {
+            JFXDateTimePicker picker = new JFXDateTimePicker(LocalDateTime.of(2018, 11, 23, 14, 35));
+            picker.setIncrementalCellRefresh(incrementalCellRefresh);
+            content = new JFXDateTimePickerContent(picker);
+            stage = HeadlessFx.show(content);
+            content.init();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void forward() throws Exception {
+        HeadlessFx.run(() -> {
+            // back and forth, so the displayed months stay in the layout cache
+            for (int i = 0; i < BATCH; i++) {
+                content.forward(i % 2 == 0 ? 1 : -1, ChronoUnit.MONTHS, false, false);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void updateDayCells() throws Exception {
+        HeadlessFx.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                content.updateDayCells();
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        HeadlessFx.run(stage::close);
+    }
+}
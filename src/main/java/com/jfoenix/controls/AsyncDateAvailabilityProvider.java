@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * AsyncDateAvailabilityProvider is the non blocking version of {@link DateAvailabilityProvider}.
+ * The popup content renders the days of a month in a loading state until the returned
+ * future is completed, then it refreshes all the day cells at once. The results
+ * received for months that are no longer displayed are only cached.
+ *
+ * @author Roman Gorovoy
+ */
+@FunctionalInterface
+public interface AsyncDateAvailabilityProvider {
+
+    /**
+     * @param start the first day of the range
+     * @param end the last day of the range, inclusive
+     * @param executor the {@link JFXDateTimePicker#availabilityExecutorProperty() availability executor}
+     * of the picker, the blocking work of the provider should be run on it
+     * @return the future availability of the days of the range, it may be completed with null
+     * if all of them are available. the availability must not be modified afterwards.
+     */
+    CompletableFuture<DateAvailability> getAvailability(LocalDate start, LocalDate end, Executor executor);
+
+    /**
+     * @return an async provider calling the specified provider on the executor
+     */
+    static AsyncDateAvailabilityProvider of(DateAvailabilityProvider provider) {
+        return (start, end, executor) ->
+            CompletableFuture.supplyAsync(() -> provider.getAvailability(start, end), executor);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ChronologyBounds holds the first and last ISO epoch days a {@link Chronology} can
+ * represent, so checking that a date is supported by the chronology is two comparisons
+ * instead of a conversion that throws a {@link DateTimeException}.
+ * <p>The bounds are searched once per chronology and cached. The search assumes the
+ * supported days are one continuous range, which is the case of the JDK chronologies.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public final class ChronologyBounds {
+
+    private static final Map<Chronology, ChronologyBounds> bounds = new ConcurrentHashMap<>();
+
+    private static final ChronologyBounds ISO_BOUNDS =
+        new ChronologyBounds(LocalDate.MIN.toEpochDay(), LocalDate.MAX.toEpochDay());
+
+    private final long minEpochDay;
+    private final long maxEpochDay;
+
+    private ChronologyBounds(long minEpochDay, long maxEpochDay) {
+        this.minEpochDay = minEpochDay;
+        this.maxEpochDay = maxEpochDay;
+    }
+
+    /**
+     * @return the bounds of the chronology, ISO if null
+     */
+    public static ChronologyBounds of(Chronology chrono) {
+        if (chrono == null || IsoChronology.INSTANCE.equals(chrono)) {
+            return ISO_BOUNDS;
+        }
+        return bounds.computeIfAbsent(chrono, ChronologyBounds::search);
+    }
+
+    /*
+     * binary searches the bounds around a supported day, the only place where
+     * the chronology is allowed to throw
+     */
+    private static ChronologyBounds search(Chronology chrono) {
+        long seed = 0;
+        if (!supports(chrono, seed)) {
+            seed = LocalDate.now().toEpochDay();
+            if (!supports(chrono, seed)) {
+                // no supported day found, the bounds are empty
+                return new ChronologyBounds(0, -1);
+            }
+        }
+        long min = LocalDate.MIN.toEpochDay();
+        if (!supports(chrono, min)) {
+            // min is unsupported, seed is supported
+            long low = min, high = seed;
+            while (high - low > 1) {
+                long middle = low + (high - low) / 2;
+                if (supports(chrono, middle)) {
+                    high = middle;
+                } else {
+                    low = middle;
+                }
+            }
+            min = high;
+        }
+        long max = LocalDate.MAX.toEpochDay();
+        if (!supports(chrono, max)) {
+            // seed is supported, max is unsupported
+            long low = seed, high = max;
+            while (high - low > 1) {
+                long middle = low + (high - low) / 2;
+                if (supports(chrono, middle)) {
+                    low = middle;
+                } else {
+                    high = middle;
+                }
+            }
+            max = low;
+        }
+        return new ChronologyBounds(min, max);
+    }
+
+    private static boolean supports(Chronology chrono, long epochDay) {
+        try {
+            chrono.date(LocalDate.ofEpochDay(epochDay));
+            return true;
+        } catch (DateTimeException ex) {
+            return false;
+        }
+    }
+
+    public long getMinEpochDay() {
+        return minEpochDay;
+    }
+
+    public long getMaxEpochDay() {
+        return maxEpochDay;
+    }
+
+    /**
+     * @return the first supported day, or null if the bounds are empty
+     */
+    public LocalDate getMinDate() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(minEpochDay);
+    }
+
+    /**
+     * @return the last supported day, or null if the bounds are empty
+     */
+    public LocalDate getMaxDate() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(maxEpochDay);
+    }
+
+    public boolean isEmpty() {
+        return minEpochDay > maxEpochDay;
+    }
+
+    public boolean contains(long epochDay) {
+        return epochDay >= minEpochDay && epochDay <= maxEpochDay;
+    }
+
+    /**
+     * @return true if the date is supported by the chronology, a null date is supported
+     */
+    public boolean contains(LocalDate date) {
+        return date == null || contains(date.toEpochDay());
+    }
+
+    /**
+     * @return true if the date moved by the offset is supported by the chronology,
+     * false if the date is null or if the move leaves the ISO calendar
+     */
+    public boolean contains(LocalDate date, long offset, ChronoUnit unit) {
+        if (date == null) {
+            return false;
+        }
+        switch (unit) {
+            case DAYS:
+                return contains(date.toEpochDay() + offset);
+            case WEEKS:
+                return contains(date.toEpochDay() + offset * 7);
+            case MONTHS:
+            case YEARS:
+                long month = date.getYear() * 12L + date.getMonthValue() - 1 + (unit == ChronoUnit.YEARS ? offset * 12 : offset);
+                long year = Math.floorDiv(month, 12);
+                if (year < Year.MIN_VALUE || year > Year.MAX_VALUE) {
+                    return false;
+                }
+                LocalDate first = LocalDate.of((int) year, (int) Math.floorMod(month, 12) + 1, 1);
+                return contains(first.withDayOfMonth(Math.min(date.getDayOfMonth(), first.lengthOfMonth())));
+            default:
+                throw new IllegalArgumentException("unsupported unit: " + unit);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * DateAvailability holds the state flags of a range of days as one byte per day,
+ * it's returned by a {@link DateAvailabilityProvider}. All the days are
+ * {@link #AVAILABLE} unless they are marked otherwise, the days outside
+ * of the range are available.
+ * <p>A day can also have a number of free slots and a badge, shown under the day
+ * label. The slot counts and the badges are only allocated when they are set.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public class DateAvailability {
+
+    /**
+     * the day can be selected
+     */
+    public static final byte AVAILABLE = 0;
+    /**
+     * the day can't be selected, its cell is disabled
+     */
+    public static final byte UNAVAILABLE = 1;
+    /**
+     * the day cell gets the highlighted style class
+     */
+    public static final byte HIGHLIGHTED = 1 << 1;
+
+    /**
+     * slot count of the days without a known number of slots
+     */
+    public static final int NO_SLOT_COUNT = -1;
+
+    private final long startEpochDay;
+    private final byte[] states;
+    private int[] slotCounts;
+    private String[] badges;
+
+    /**
+     * creates the availability of the specified range, all the days are available
+     *
+     * @param start the first day of the range
+     * @param end the last day of the range, inclusive
+     */
+    public DateAvailability(LocalDate start, LocalDate end) {
+        long length = end.toEpochDay() - start.toEpochDay() + 1;
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid range: " + start + " - " + end);
+        }
+        this.startEpochDay = start.toEpochDay();
+        this.states = new byte[(int) length];
+    }
+
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(startEpochDay + states.length - 1);
+    }
+
+    public boolean contains(LocalDate date) {
+        return contains(date.toEpochDay());
+    }
+
+    private boolean contains(long epochDay) {
+        return epochDay >= startEpochDay && epochDay - startEpochDay < states.length;
+    }
+
+    /**
+     * @return the state flags of the day, {@link #AVAILABLE} if it's out of the range
+     */
+    public byte getState(LocalDate date) {
+        return getState(date.toEpochDay());
+    }
+
+    /**
+     * @return the state flags of the day, {@link #AVAILABLE} if it's out of the range
+     */
+    public byte getState(long epochDay) {
+        return contains(epochDay) ? states[(int) (epochDay - startEpochDay)] : AVAILABLE;
+    }
+
+    /**
+     * sets the state flags of the day
+     *
+     * @throws IndexOutOfBoundsException if the day is out of the range
+     */
+    public void setState(LocalDate date, byte state) {
+        states[indexOf(date)] = state;
+    }
+
+    /**
+     * sets the state flags of the days from {@code from} to {@code to} inclusive,
+     * the days out of the range are ignored
+     */
+    public void setState(LocalDate from, LocalDate to, byte state) {
+        long fromIndex = Math.max(0, from.toEpochDay() - startEpochDay);
+        long toIndex = Math.min(states.length - 1, to.toEpochDay() - startEpochDay);
+        if (fromIndex <= toIndex) {
+            Arrays.fill(states, (int) fromIndex, (int) toIndex + 1, state);
+        }
+    }
+
+    /**
+     * @return the number of free slots of the day, or {@link #NO_SLOT_COUNT}
+     */
+    public int getSlotCount(LocalDate date) {
+        return getSlotCount(date.toEpochDay());
+    }
+
+    /**
+     * @return the number of free slots of the day, or {@link #NO_SLOT_COUNT}
+     */
+    public int getSlotCount(long epochDay) {
+        return slotCounts != null && contains(epochDay) ?
+            slotCounts[(int) (epochDay - startEpochDay)] : NO_SLOT_COUNT;
+    }
+
+    /**
+     * sets the number of free slots of the day, a day without slots
+     * gets the "fully-booked" style class
+     *
+     * @throws IndexOutOfBoundsException if the day is out of the range
+     */
+    public void setSlotCount(LocalDate date, int slotCount) {
+        int index = indexOf(date);
+        if (slotCounts == null) {
+            slotCounts = new int[states.length];
+            Arrays.fill(slotCounts, NO_SLOT_COUNT);
+        }
+        slotCounts[index] = slotCount;
+    }
+
+    /**
+     * @return the badge of the day, or null
+     */
+    public String getBadge(LocalDate date) {
+        return getBadge(date.toEpochDay());
+    }
+
+    /**
+     * @return the badge of the day, or null
+     */
+    public String getBadge(long epochDay) {
+        return badges != null && contains(epochDay) ? badges[(int) (epochDay - startEpochDay)] : null;
+    }
+
+    /**
+     * sets the badge shown under the day label, it replaces the slot count of the day
+     *
+     * @throws IndexOutOfBoundsException if the day is out of the range
+     */
+    public void setBadge(LocalDate date, String badge) {
+        int index = indexOf(date);
+        if (badges == null) {
+            badges = new String[states.length];
+        }
+        badges[index] = badge;
+    }
+
+    private int indexOf(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (!contains(epochDay)) {
+            throw new IndexOutOfBoundsException(date + " is out of the range " + getStart() + " - " + getEnd());
+        }
+        return (int) (epochDay - startEpochDay);
+    }
+
+    public boolean isAvailable(LocalDate date) {
+        return (getState(date) & UNAVAILABLE) == 0;
+    }
+
+    public boolean isHighlighted(LocalDate date) {
+        return (getState(date) & HIGHLIGHTED) != 0;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import java.time.LocalDate;
+
+/**
+ * DateAvailabilityProvider tells which days of a {@link JFXDateTimePicker} can be
+ * selected or must be highlighted. It's asked once per displayed month for the
+ * whole range of the month instead of once per day cell, the results are cached
+ * by the popup content and the adjacent months are prefetched in a background thread,
+ * so implementations must be thread safe.
+ *
+ * @author Roman Gorovoy
+ */
+@FunctionalInterface
+public interface DateAvailabilityProvider {
+
+    /**
+     * @param start the first day of the range
+     * @param end the last day of the range, inclusive
+     * @return the availability of the days of the range, or null if all of them are available.
+     * the returned availability must not be modified afterwards.
+     */
+    DateAvailability getAvailability(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.controls;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * EpochDaySet is the set of dates selected in the {@link JFXDateTimePicker.SelectionMode#MULTIPLE}
+ * mode, stored as a sorted array of epoch days, so thousands of dates take 8 bytes each
+ * and a membership check is a binary search.
+ * <p>The listeners are invalidated once per call that changes the set, the bulk
+ * methods merge the sorted days instead of inserting them one by one.
+ * It must only be used on the FX application thread.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public final class EpochDaySet implements Observable {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] days = EMPTY;
+    private int size = 0;
+    private final List<InvalidationListener> listeners = new ArrayList<>(2);
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the epoch day at the specified index, in ascending order
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return days[index];
+    }
+
+    /**
+     * @return the index of the first epoch day greater than or equal to the
+     * specified one, {@link #size()} if there is none
+     */
+    public int ceilingIndex(long epochDay) {
+        int index = Arrays.binarySearch(days, 0, size, epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public boolean contains(long epochDay) {
+        return Arrays.binarySearch(days, 0, size, epochDay) >= 0;
+    }
+
+    public boolean contains(LocalDate date) {
+        return date != null && contains(date.toEpochDay());
+    }
+
+    public boolean add(LocalDate date) {
+        return add(date.toEpochDay());
+    }
+
+    public boolean add(long epochDay) {
+        int index = Arrays.binarySearch(days, 0, size, epochDay);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == days.length) {
+            days = Arrays.copyOf(days, Math.max(8, size + (size >> 1)));
+        }
+        System.arraycopy(days, index, days, index + 1, size - index);
+        days[index] = epochDay;
+        size++;
+        invalidated();
+        return true;
+    }
+
+    public boolean remove(LocalDate date) {
+        return remove(date.toEpochDay());
+    }
+
+    public boolean remove(long epochDay) {
+        int index = Arrays.binarySearch(days, 0, size, epochDay);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(days, index + 1, days, index, size - index - 1);
+        size--;
+        invalidated();
+        return true;
+    }
+
+    /**
+     * adds the date if it's not in the set, removes it otherwise
+     *
+     * @return true if the date has been added
+     */
+    public boolean toggle(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (contains(epochDay)) {
+            remove(epochDay);
+            return false;
+        }
+        add(epochDay);
+        return true;
+    }
+
+    public boolean addAll(Collection<LocalDate> dates) {
+        return addAll(toEpochDays(dates));
+    }
+
+    /**
+     * adds the specified epoch days, in any order, with one notification
+     */
+    public boolean addAll(long... epochDays) {
+        long[] added = sortedDistinct(epochDays);
+        if (added.length == 0) {
+            return false;
+        }
+        // merges the two sorted arrays
+        long[] merged = new long[size + added.length];
+        int i = 0, j = 0, n = 0;
+        while (i < size && j < added.length) {
+            long day = days[i];
+            long addedDay = added[j];
+            if (day < addedDay) {
+                merged[n++] = day;
+                i++;
+            } else if (day > addedDay) {
+                merged[n++] = addedDay;
+                j++;
+            } else {
+                merged[n++] = day;
+                i++;
+                j++;
+            }
+        }
+        while (i < size) {
+            merged[n++] = days[i++];
+        }
+        while (j < added.length) {
+            merged[n++] = added[j++];
+        }
+        if (n == size) {
+            return false;
+        }
+        days = merged;
+        size = n;
+        invalidated();
+        return true;
+    }
+
+    /**
+     * adds all the dates from the first to the last one, inclusive
+     */
+    public boolean addRange(LocalDate first, LocalDate last) {
+        long from = first.toEpochDay();
+        long to = last.toEpochDay();
+        if (to < from) {
+            return false;
+        }
+        long[] range = new long[Math.toIntExact(to - from + 1)];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = from + i;
+        }
+        return addAll(range);
+    }
+
+    public boolean removeAll(Collection<LocalDate> dates) {
+        return removeAll(toEpochDays(dates));
+    }
+
+    /**
+     * removes the specified epoch days, in any order, with one notification
+     */
+    public boolean removeAll(long... epochDays) {
+        long[] removed = sortedDistinct(epochDays);
+        int i = 0, j = 0, n = 0;
+        while (i < size) {
+            long day = days[i++];
+            while (j < removed.length && removed[j] < day) {
+                j++;
+            }
+            if (j == removed.length || removed[j] != day) {
+                days[n++] = day;
+            }
+        }
+        if (n == size) {
+            return false;
+        }
+        size = n;
+        invalidated();
+        return true;
+    }
+
+    /**
+     * removes all the dates from the first to the last one, inclusive
+     */
+    public boolean removeRange(LocalDate first, LocalDate last) {
+        int from = ceilingIndex(first.toEpochDay());
+        int to = ceilingIndex(last.toEpochDay() + 1);
+        if (from >= to) {
+            return false;
+        }
+        System.arraycopy(days, to, days, from, size - to);
+        size -= to - from;
+        invalidated();
+        return true;
+    }
+
+    /**
+     * replaces the content of the set with the specified dates, with one notification
+     */
+    public void setAll(Collection<LocalDate> dates) {
+        long[] epochDays = sortedDistinct(toEpochDays(dates));
+        if (epochDays.length == size && Arrays.equals(epochDays, Arrays.copyOf(days, size))) {
+            return;
+        }
+        days = epochDays;
+        size = epochDays.length;
+        invalidated();
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        size = 0;
+        days = EMPTY;
+        invalidated();
+    }
+
+    /**
+     * @return a copy of the epoch days, in ascending order
+     */
+    public long[] toEpochDayArray() {
+        return Arrays.copyOf(days, size);
+    }
+
+    /**
+     * @return the dates of the set, in ascending order
+     */
+    public List<LocalDate> toDates() {
+        List<LocalDate> dates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dates.add(LocalDate.ofEpochDay(days[i]));
+        }
+        return dates;
+    }
+
+    private static long[] toEpochDays(Collection<LocalDate> dates) {
+        long[] epochDays = new long[dates.size()];
+        int i = 0;
+        for (LocalDate date : dates) {
+            epochDays[i++] = date.toEpochDay();
+        }
+        return epochDays;
+    }
+
+    private static long[] sortedDistinct(long[] epochDays) {
+        if (epochDays.length == 0) {
+            return EMPTY;
+        }
+        long[] sorted = epochDays.clone();
+        Arrays.sort(sorted);
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void invalidated() {
+        // a listener may remove itself
+        for (InvalidationListener listener : listeners.toArray(new InvalidationListener[0])) {
+            listener.invalidated(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EpochDaySet" + toDates();
+    }
+}
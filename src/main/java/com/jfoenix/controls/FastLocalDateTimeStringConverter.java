@@ -0,0 +1,517 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DecimalStyle;
+import java.time.format.FormatStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.util.StringConverter;
+
+/**
+ * FastLocalDateTimeStringConverter converts the same texts as
+ * {@link javafx.util.converter.LocalDateTimeStringConverter} with localized styles,
+ * four digit years included, but it's meant to be shared: the instances returned by
+ * {@link #of(FormatStyle, FormatStyle, Locale, Chronology)} are cached per locale,
+ * chronology and styles, and compile their formatters once.
+ * <p>When the localized pattern is made of numeric fields and literals only, in the ISO
+ * chronology with ASCII digits, the values are formatted and parsed by hand. Any other
+ * pattern, or a text the fast path doesn't fully match, goes through the
+ * {@link DateTimeFormatter}, which also reports the parse errors.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public class FastLocalDateTimeStringConverter extends StringConverter<LocalDateTime> {
+
+    private static final int MAXIMUM_CACHE_SIZE = 16;
+
+    private static final Map<Key, FastLocalDateTimeStringConverter> converters =
+        new LinkedHashMap<Key, FastLocalDateTimeStringConverter>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, FastLocalDateTimeStringConverter> eldest) {
+                return size() > MAXIMUM_CACHE_SIZE;
+            }
+        };
+
+    private final Chronology chronology;
+    private final DateTimeFormatter formatter;
+    private final DateTimeFormatter parser;
+    // null if the pattern has no fast path
+    private final NumericLayout formatLayout;
+    private final NumericLayout parseLayout;
+
+    /**
+     * @return the shared converter of the specified styles, locale and chronology
+     */
+    public static FastLocalDateTimeStringConverter of(FormatStyle dateStyle, FormatStyle timeStyle,
+                                                      Locale locale, Chronology chronology) {
+        Key key = new Key(dateStyle, timeStyle, locale, chronology);
+        synchronized (converters) {
+            FastLocalDateTimeStringConverter converter = converters.get(key);
+            if (converter == null) {
+                converter = new FastLocalDateTimeStringConverter(dateStyle, timeStyle, locale, chronology);
+                converters.put(key, converter);
+            }
+            return converter;
+        }
+    }
+
+    /**
+     * @param dateStyle the date style, SHORT if null
+     * @param timeStyle the time style, SHORT if null
+     * @param locale the locale, the default locale if null
+     * @param chronology the chronology, ISO if null
+     */
+    public FastLocalDateTimeStringConverter(FormatStyle dateStyle, FormatStyle timeStyle,
+                                            Locale locale, Chronology chronology) {
+        dateStyle = dateStyle == null ? FormatStyle.SHORT : dateStyle;
+        timeStyle = timeStyle == null ? FormatStyle.SHORT : timeStyle;
+        locale = locale == null ? Locale.getDefault() : locale;
+        this.chronology = chronology == null ? IsoChronology.INSTANCE : chronology;
+
+        DecimalStyle decimalStyle = DecimalStyle.of(locale);
+        String pattern = DateTimeFormatterBuilder.getLocalizedDateTimePattern(dateStyle, timeStyle, this.chronology, locale);
+        // the text shows the full year, while two digit years can still be typed
+        String formatPattern = pattern.contains("yy") && !pattern.contains("yyy") ? pattern.replace("yy", "yyyy") : pattern;
+        formatter = DateTimeFormatter.ofPattern(formatPattern, locale)
+            .withChronology(this.chronology)
+            .withDecimalStyle(decimalStyle);
+        parser = new DateTimeFormatterBuilder().parseLenient()
+            .appendPattern(pattern)
+            .toFormatter(locale)
+            .withChronology(this.chronology)
+            .withDecimalStyle(decimalStyle);
+
+        boolean fastPath = this.chronology == IsoChronology.INSTANCE && decimalStyle.getZeroDigit() == '0';
+        if (fastPath) {
+            DateTimeFormatter amPmFormatter = DateTimeFormatter.ofPattern("a", locale);
+            String am = amPmFormatter.format(LocalTime.MIDNIGHT);
+            String pm = amPmFormatter.format(LocalTime.NOON);
+            formatLayout = NumericLayout.compile(formatPattern, am, pm);
+            parseLayout = NumericLayout.compile(pattern, am, pm);
+        } else {
+            formatLayout = null;
+            parseLayout = null;
+        }
+    }
+
+    /**
+     * @return true if the values are formatted and parsed without the {@link DateTimeFormatter}
+     * as long as the text matches the pattern
+     */
+    public boolean hasFastPath() {
+        return formatLayout != null && parseLayout != null;
+    }
+
+    @Override
+    public String toString(LocalDateTime value) {
+        if (value == null) {
+            return "";
+        }
+        if (formatLayout != null) {
+            String text = formatLayout.format(value);
+            if (text != null) {
+                return text;
+            }
+        }
+        ChronoLocalDateTime<?> dateTime = chronology.localDateTime(value);
+        return formatter.format(dateTime);
+    }
+
+    @Override
+    public LocalDateTime fromString(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (parseLayout != null) {
+            LocalDateTime dateTime = parseLayout.parse(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        TemporalAccessor temporal = parser.parse(value);
+        return LocalDateTime.from(chronology.localDateTime(temporal));
+    }
+
+    /**
+     * parses the text like {@link #fromString(String)}, without throwing an exception
+     *
+     * @return the parsed value, or null if the text is empty or doesn't match the pattern
+     */
+    public LocalDateTime tryParse(String value) {
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (parseLayout != null) {
+            LocalDateTime dateTime = parseLayout.parse(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        TemporalAccessor temporal = MultiPatternParser.parseWhole(parser, value);
+        if (temporal == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.from(chronology.localDateTime(temporal));
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * pattern made of numeric ISO fields, am / pm markers and literals
+     */
+    private static final class NumericLayout {
+
+        private static final char LITERAL = 0;
+        private static final char AM_PM = 'a';
+        // lenient parsing accepts up to 9 digits per field
+        private static final int MAXIMUM_DIGITS = 9;
+
+        // pattern letter of each segment, or LITERAL
+        private final char[] fields;
+        private final int[] widths;
+        private final String[] literals;
+        private final String am;
+        private final String pm;
+
+        private NumericLayout(char[] fields, int[] widths, String[] literals, String am, String pm) {
+            this.fields = fields;
+            this.widths = widths;
+            this.literals = literals;
+            this.am = am;
+            this.pm = pm;
+        }
+
+        /**
+         * @return the layout of the pattern, or null if it has other fields than the numeric ones,
+         * optional sections or adjacent numeric fields
+         */
+        static NumericLayout compile(String pattern, String am, String pm) {
+            List<Character> fields = new ArrayList<>();
+            List<Integer> widths = new ArrayList<>();
+            List<String> literals = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            boolean clockHour = false, hour = false, amPm = false;
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    int end = pattern.indexOf('\'', i + 1);
+                    if (end < 0) {
+                        return null;
+                    }
+                    // '' is a quote, 'text' is literal text
+                    literal.append(end == i + 1 ? "'" : pattern.substring(i + 1, end));
+                    i = end + 1;
+                    continue;
+                }
+                if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return null;
+                }
+                if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                    literal.append(c);
+                    i++;
+                    continue;
+                }
+                int width = 1;
+                while (i + width < pattern.length() && pattern.charAt(i + width) == c) {
+                    width++;
+                }
+                i += width;
+                switch (c) {
+                    case 'y':
+                        if (width > 4) {
+                            return null;
+                        }
+                        break;
+                    case 'M':
+                    case 'd':
+                    case 'm':
+                    case 's':
+                        if (width > 2) {
+                            return null;
+                        }
+                        break;
+                    case 'H':
+                        hour = true;
+                        if (width > 2) {
+                            return null;
+                        }
+                        break;
+                    case 'h':
+                        clockHour = true;
+                        if (width > 2) {
+                            return null;
+                        }
+                        break;
+                    case AM_PM:
+                        amPm = true;
+                        if (width > 1) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        return null;
+                }
+                boolean numeric = c != AM_PM;
+                boolean previousNumeric = !fields.isEmpty() && fields.get(fields.size() - 1) != AM_PM
+                    && fields.get(fields.size() - 1) != LITERAL;
+                if (literal.length() > 0) {
+                    fields.add(LITERAL);
+                    widths.add(0);
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                } else if (numeric && previousNumeric) {
+                    // adjacent value parsing is left to the formatter
+                    return null;
+                }
+                fields.add(c);
+                widths.add(width);
+                literals.add(null);
+            }
+            if (literal.length() > 0) {
+                fields.add(LITERAL);
+                widths.add(0);
+                literals.add(literal.toString());
+            }
+            if (clockHour != amPm || hour && clockHour || !fields.contains('y')
+                || !fields.contains('M') || !fields.contains('d')) {
+                return null;
+            }
+            char[] fieldArray = new char[fields.size()];
+            int[] widthArray = new int[widths.size()];
+            for (int j = 0; j < fieldArray.length; j++) {
+                fieldArray[j] = fields.get(j);
+                widthArray[j] = widths.get(j);
+            }
+            return new NumericLayout(fieldArray, widthArray, literals.toArray(new String[0]), am, pm);
+        }
+
+        /**
+         * @return the formatted value, or null if it's out of the range of the fast path
+         */
+        String format(LocalDateTime value) {
+            int year = value.getYear();
+            if (year < 1 || year > 9999) {
+                // eras and signs are left to the formatter
+                return null;
+            }
+            StringBuilder text = new StringBuilder(24);
+            for (int i = 0; i < fields.length; i++) {
+                switch (fields[i]) {
+                    case LITERAL:
+                        text.append(literals[i]);
+                        break;
+                    case 'y':
+                        if (widths[i] == 2) {
+                            // reduced year, only used by the parser layouts
+                            appendNumber(text, year % 100, 2);
+                        } else {
+                            appendNumber(text, year, widths[i]);
+                        }
+                        break;
+                    case 'M':
+                        appendNumber(text, value.getMonthValue(), widths[i]);
+                        break;
+                    case 'd':
+                        appendNumber(text, value.getDayOfMonth(), widths[i]);
+                        break;
+                    case 'H':
+                        appendNumber(text, value.getHour(), widths[i]);
+                        break;
+                    case 'h':
+                        int clockHour = value.getHour() % 12;
+                        appendNumber(text, clockHour == 0 ? 12 : clockHour, widths[i]);
+                        break;
+                    case 'm':
+                        appendNumber(text, value.getMinute(), widths[i]);
+                        break;
+                    case 's':
+                        appendNumber(text, value.getSecond(), widths[i]);
+                        break;
+                    case AM_PM:
+                        text.append(value.getHour() < 12 ? am : pm);
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            return text.toString();
+        }
+
+        private static void appendNumber(StringBuilder text, int value, int width) {
+            for (int limit = 10, digits = 1; digits < width; limit *= 10, digits++) {
+                if (value < limit) {
+                    text.append('0');
+                }
+            }
+            text.append(value);
+        }
+
+        /**
+         * @return the parsed value, or null if the text doesn't fully match the layout,
+         * or if a field is out of its range
+         */
+        LocalDateTime parse(String text) {
+            int year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0, pmOffset = -1;
+            int position = 0;
+            int length = text.length();
+            for (int i = 0; i < fields.length; i++) {
+                char field = fields[i];
+                if (field == LITERAL) {
+                    String literal = literals[i];
+                    if (!text.startsWith(literal, position)) {
+                        return null;
+                    }
+                    position += literal.length();
+                    continue;
+                }
+                if (field == AM_PM) {
+                    // the longest marker first, in case one is a prefix of the other
+                    boolean pmFirst = pm.length() > am.length();
+                    String marker = pmFirst ? pm : am;
+                    String otherMarker = pmFirst ? am : pm;
+                    if (text.startsWith(marker, position)) {
+                        pmOffset = pmFirst ? 12 : 0;
+                        position += marker.length();
+                    } else if (text.startsWith(otherMarker, position)) {
+                        pmOffset = pmFirst ? 0 : 12;
+                        position += otherMarker.length();
+                    } else {
+                        return null;
+                    }
+                    continue;
+                }
+                int start = position;
+                int value = 0;
+                while (position < length && position - start < MAXIMUM_DIGITS) {
+                    char c = text.charAt(position);
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    value = value * 10 + (c - '0');
+                    position++;
+                }
+                int digits = position - start;
+                if (digits == 0) {
+                    return null;
+                }
+                switch (field) {
+                    case 'y':
+                        // a two digit year of a reduced field is in 2000 - 2099
+                        year = widths[i] == 2 && digits == 2 ? 2000 + value : value;
+                        break;
+                    case 'M':
+                        month = value;
+                        break;
+                    case 'd':
+                        day = value;
+                        break;
+                    case 'H':
+                    case 'h':
+                        hour = value;
+                        break;
+                    case 'm':
+                        minute = value;
+                        break;
+                    case 's':
+                        second = value;
+                        break;
+                    default:
+                        return null;
+                }
+            }
+            if (position != length) {
+                return null;
+            }
+            if (pmOffset >= 0) {
+                if (hour < 1 || hour > 12) {
+                    return null;
+                }
+                hour = hour % 12 + pmOffset;
+            }
+            if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour > 23 || minute > 59 || second > 59) {
+                return null;
+            }
+            // the smart resolver clamps the day to the end of the month
+            int lengthOfMonth = Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+            return LocalDateTime.of(year, month, Math.min(day, lengthOfMonth), hour, minute, second);
+        }
+    }
+
+    private static final class Key {
+        private final FormatStyle dateStyle;
+        private final FormatStyle timeStyle;
+        private final Locale locale;
+        private final Chronology chronology;
+
+        private Key(FormatStyle dateStyle, FormatStyle timeStyle, Locale locale, Chronology chronology) {
+            this.dateStyle = dateStyle;
+            this.timeStyle = timeStyle;
+            this.locale = locale;
+            this.chronology = chronology;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return dateStyle == key.dateStyle
+                && timeStyle == key.timeStyle
+                && Objects.equals(locale, key.locale)
+                && Objects.equals(chronology, key.chronology);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dateStyle, timeStyle, locale, chronology);
+        }
+    }
+}
@@ -19,34 +19,44 @@
 
 package com.jfoenix.controls;
 
-import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.chrono.Chronology;
 import java.time.chrono.IsoChronology;
 import java.time.format.FormatStyle;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 import com.jfoenix.controls.base.IFXValidatableControl;
+import com.jfoenix.controls.events.DateAvailabilityFailedEvent;
+import com.jfoenix.controls.events.JFXDateTimePickerEvent;
+import com.jfoenix.controls.metrics.DateTimePickerHistograms;
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener;
 import com.jfoenix.skins.JFXDateTimePickerSkin;
 import com.jfoenix.validation.base.ValidatorBase;
-import com.sun.javafx.css.converters.BooleanConverter;
-import com.sun.javafx.css.converters.PaintConverter;
 import com.sun.javafx.scene.control.skin.resources.ControlResources;
 
+import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.WritableValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableSet;
 import javafx.css.CssMetaData;
+import javafx.event.EventHandler;
 import javafx.css.SimpleStyleableBooleanProperty;
 import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleConverter;
 import javafx.css.Styleable;
 import javafx.css.StyleableBooleanProperty;
 import javafx.css.StyleableObjectProperty;
@@ -62,8 +72,8 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.util.Callback;
+import javafx.util.Duration;
 import javafx.util.StringConverter;
-import javafx.util.converter.LocalDateTimeStringConverter;
 
 /**
  * JFXDateTimePicker is the combo of {@link JFXDatePicker}, {@link DatePicker} and {@link JFXTimePicker}.
@@ -108,9 +118,8 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
             if (validateDateTime(chrono, dateTime)) {
                 lastValidDateTime = dateTime;
             } else {
-                System.err.println("Restoring value to " +
-                            ((lastValidDateTime == null) ? "null" : getConverter().toString(lastValidDateTime)));
                 setValue(lastValidDateTime);
+                fireEvent(new JFXDateTimePickerEvent(JFXDateTimePickerEvent.VALUE_REJECTED, dateTime, lastValidDateTime));
             }
         });
 
@@ -120,10 +129,10 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
 
             if (validateDateTime(chrono, dateTime)) {
                 lastValidChronology = chrono;
-                defaultConverter = new LocalDateTimeStringConverter(FormatStyle.SHORT, FormatStyle.SHORT, Locale.getDefault(), chrono);
+                defaultConverter = FastLocalDateTimeStringConverter.of(FormatStyle.SHORT, FormatStyle.SHORT, Locale.getDefault(), chrono);
             } else {
-                System.err.println("Restoring value to " + lastValidChronology);
                 setChronology(lastValidChronology);
+                fireEvent(new JFXDateTimePickerEvent(JFXDateTimePickerEvent.CHRONOLOGY_REJECTED, chrono, lastValidChronology));
             }
         });
 
@@ -141,15 +150,7 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
      **************************************************************************/
 
     private boolean validateDateTime(Chronology chrono, LocalDateTime dateTime) {
-        try {
-            if (dateTime != null) {
-                chrono.date(dateTime);
-            }
-            return true;
-        } catch (DateTimeException ex) {
-            System.err.println(ex);
-            return false;
-        }
+        return dateTime == null || ChronologyBounds.of(chrono).contains(dateTime.toLocalDate());
     }
 
     /***************************************************************************
@@ -170,6 +171,9 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
         getStyleClass().add(DEFAULT_STYLE_CLASS);
         setAccessibleRole(AccessibleRole.DATE_PICKER);
         setEditable(true);
+        // the multi pattern converter is created again with the new patterns
+        parsePatterns.addListener((Observable observable) -> multiPatternConverter = null);
+        parsePatternScope.addListener(observable -> multiPatternConverter = null);
     }
 
     /**
@@ -244,6 +248,208 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
         return dayCellFactory;
     }
 
+    /**
+     * The provider of the days that can't be selected or must be highlighted.
+     * Unlike the {@link #dayCellFactoryProperty() day cell factory}, it's asked once
+     * for all the days of a displayed month, and its results are cached.
+     * The unavailable day cells are disabled and get the "unavailable" style class,
+     * the highlighted ones get the "highlighted" style class.
+     */
+    private ObjectProperty<DateAvailabilityProvider> dateAvailabilityProvider =
+        new SimpleObjectProperty<>(this, "dateAvailabilityProvider", null);
+
+    public final ObjectProperty<DateAvailabilityProvider> dateAvailabilityProviderProperty() {
+        return dateAvailabilityProvider;
+    }
+
+    public final DateAvailabilityProvider getDateAvailabilityProvider() {
+        return dateAvailabilityProviderProperty().get();
+    }
+
+    public final void setDateAvailabilityProvider(DateAvailabilityProvider value) {
+        dateAvailabilityProviderProperty().set(value);
+    }
+
+    /**
+     * The non blocking provider of the days that can't be selected or must be highlighted,
+     * it's used instead of the {@link #dateAvailabilityProviderProperty() date availability provider}
+     * if both are set. The days of a month are rendered in a loading state until it's loaded,
+     * they get the "loading" style class and are disabled.
+     */
+    private ObjectProperty<AsyncDateAvailabilityProvider> asyncDateAvailabilityProvider =
+        new SimpleObjectProperty<>(this, "asyncDateAvailabilityProvider", null);
+
+    public final ObjectProperty<AsyncDateAvailabilityProvider> asyncDateAvailabilityProviderProperty() {
+        return asyncDateAvailabilityProvider;
+    }
+
+    public final AsyncDateAvailabilityProvider getAsyncDateAvailabilityProvider() {
+        return asyncDateAvailabilityProviderProperty().get();
+    }
+
+    public final void setAsyncDateAvailabilityProvider(AsyncDateAvailabilityProvider value) {
+        asyncDateAvailabilityProviderProperty().set(value);
+    }
+
+    /**
+     * The executor of the availability prefetches and of the async availability provider,
+     * if it's null a single daemon thread shared by all the pickers is used.
+     */
+    private ObjectProperty<Executor> availabilityExecutor = new SimpleObjectProperty<>(this, "availabilityExecutor", null);
+
+    public final ObjectProperty<Executor> availabilityExecutorProperty() {
+        return availabilityExecutor;
+    }
+
+    public final Executor getAvailabilityExecutor() {
+        return availabilityExecutorProperty().get();
+    }
+
+    public final void setAvailabilityExecutor(Executor value) {
+        availabilityExecutorProperty().set(value);
+    }
+
+    /**
+     * The provider of the hours and minutes that can be selected with the clock,
+     * it's asked once per selected date. The unavailable hours and minutes are greyed
+     * out and skipped while the clock pointer is dragged.
+     */
+    private ObjectProperty<TimeSlotAvailabilityProvider> timeSlotAvailabilityProvider =
+        new SimpleObjectProperty<>(this, "timeSlotAvailabilityProvider", null);
+
+    public final ObjectProperty<TimeSlotAvailabilityProvider> timeSlotAvailabilityProviderProperty() {
+        return timeSlotAvailabilityProvider;
+    }
+
+    public final TimeSlotAvailabilityProvider getTimeSlotAvailabilityProvider() {
+        return timeSlotAvailabilityProviderProperty().get();
+    }
+
+    public final void setTimeSlotAvailabilityProvider(TimeSlotAvailabilityProvider value) {
+        timeSlotAvailabilityProviderProperty().set(value);
+    }
+
+    /**
+     * The listener of the durations measured by the popup, see {@link DateTimePickerHistograms}.
+     * Nothing is measured while it's null.
+     */
+    private ObjectProperty<DateTimePickerMetricsListener> metricsListener =
+        new SimpleObjectProperty<>(this, "metricsListener", null);
+
+    public final ObjectProperty<DateTimePickerMetricsListener> metricsListenerProperty() {
+        return metricsListener;
+    }
+
+    public final DateTimePickerMetricsListener getMetricsListener() {
+        return metricsListenerProperty().get();
+    }
+
+    public final void setMetricsListener(DateTimePickerMetricsListener value) {
+        metricsListenerProperty().set(value);
+    }
+
+    /**
+     * Called when a value out of the range of the chronology is rejected, and the last
+     * valid value is restored.
+     */
+    private ObjectProperty<EventHandler<? super JFXDateTimePickerEvent>> onValueRejected =
+        new ObjectPropertyBase<EventHandler<? super JFXDateTimePickerEvent>>() {
+            @Override
+            protected void invalidated() {
+                setEventHandler(JFXDateTimePickerEvent.VALUE_REJECTED, get());
+            }
+
+            @Override
+            public Object getBean() {
+                return JFXDateTimePicker.this;
+            }
+
+            @Override
+            public String getName() {
+                return "onValueRejected";
+            }
+        };
+
+    public final ObjectProperty<EventHandler<? super JFXDateTimePickerEvent>> onValueRejectedProperty() {
+        return onValueRejected;
+    }
+
+    public final EventHandler<? super JFXDateTimePickerEvent> getOnValueRejected() {
+        return onValueRejectedProperty().get();
+    }
+
+    public final void setOnValueRejected(EventHandler<? super JFXDateTimePickerEvent> value) {
+        onValueRejectedProperty().set(value);
+    }
+
+    /**
+     * Called when a chronology that can't represent the value is rejected, and the last
+     * valid chronology is restored.
+     */
+    private ObjectProperty<EventHandler<? super JFXDateTimePickerEvent>> onChronologyRejected =
+        new ObjectPropertyBase<EventHandler<? super JFXDateTimePickerEvent>>() {
+            @Override
+            protected void invalidated() {
+                setEventHandler(JFXDateTimePickerEvent.CHRONOLOGY_REJECTED, get());
+            }
+
+            @Override
+            public Object getBean() {
+                return JFXDateTimePicker.this;
+            }
+
+            @Override
+            public String getName() {
+                return "onChronologyRejected";
+            }
+        };
+
+    public final ObjectProperty<EventHandler<? super JFXDateTimePickerEvent>> onChronologyRejectedProperty() {
+        return onChronologyRejected;
+    }
+
+    public final EventHandler<? super JFXDateTimePickerEvent> getOnChronologyRejected() {
+        return onChronologyRejectedProperty().get();
+    }
+
+    public final void setOnChronologyRejected(EventHandler<? super JFXDateTimePickerEvent> value) {
+        onChronologyRejectedProperty().set(value);
+    }
+
+    /**
+     * Called when the async availability provider fails to load a month,
+     * the days of the month are then shown as available.
+     */
+    private ObjectProperty<EventHandler<? super DateAvailabilityFailedEvent>> onAvailabilityFailed =
+        new ObjectPropertyBase<EventHandler<? super DateAvailabilityFailedEvent>>() {
+            @Override
+            protected void invalidated() {
+                setEventHandler(DateAvailabilityFailedEvent.AVAILABILITY_FAILED, get());
+            }
+
+            @Override
+            public Object getBean() {
+                return JFXDateTimePicker.this;
+            }
+
+            @Override
+            public String getName() {
+                return "onAvailabilityFailed";
+            }
+        };
+
+    public final ObjectProperty<EventHandler<? super DateAvailabilityFailedEvent>> onAvailabilityFailedProperty() {
+        return onAvailabilityFailed;
+    }
+
+    public final EventHandler<? super DateAvailabilityFailedEvent> getOnAvailabilityFailed() {
+        return onAvailabilityFailedProperty().get();
+    }
+
+    public final void setOnAvailabilityFailed(EventHandler<? super DateAvailabilityFailedEvent> value) {
+        onAvailabilityFailedProperty().set(value);
+    }
+
     /**
      * The calendar system used for parsing, displaying, and choosing
      * dates in the DatePicker control.
@@ -359,15 +565,60 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
 
     public final StringConverter<LocalDateTime> getConverter() {
         StringConverter<LocalDateTime> converter = converterProperty().get();
-        if (converter != null) {
+        if (converter == null) {
+            converter = defaultConverter;
+        }
+        if (parsePatterns.isEmpty()) {
             return converter;
-        } else {
-            return defaultConverter;
         }
+        if (multiPatternConverter == null || multiPatternConverter.getBaseConverter() != converter) {
+            MultiPatternParser parser = getParsePatternScope() == ParsePatternScope.SHARED ?
+                MultiPatternParser.shared(parsePatterns, Locale.getDefault()) :
+                new MultiPatternParser(parsePatterns, Locale.getDefault());
+            multiPatternConverter = new MultiPatternStringConverter(converter, parser);
+        }
+        return multiPatternConverter;
     }
 
-    private StringConverter<LocalDateTime> defaultConverter = new LocalDateTimeStringConverter(FormatStyle.SHORT, FormatStyle.SHORT,
-        Locale.getDefault(), this.getChronology());
+    private MultiPatternStringConverter multiPatternConverter;
+
+    /**
+     * The additional patterns used to parse the editor text when the converter can't parse it,
+     * see {@link MultiPatternParser} for the supported patterns. The patterns are tried
+     * in the order of their hit counts.
+     */
+    private final ObservableList<String> parsePatterns = FXCollections.observableArrayList();
+
+    public final ObservableList<String> getParsePatterns() {
+        return parsePatterns;
+    }
+
+    /**
+     * whether the order of the parse patterns is learned by this picker only, or shared
+     * by all the pickers with the same parse patterns
+     */
+    private ObjectProperty<ParsePatternScope> parsePatternScope =
+        new SimpleObjectProperty<>(this, "parsePatternScope", ParsePatternScope.CONTROL);
+
+    public final ObjectProperty<ParsePatternScope> parsePatternScopeProperty() {
+        return this.parsePatternScope;
+    }
+
+    public final ParsePatternScope getParsePatternScope() {
+        return parsePatternScopeProperty().get();
+    }
+
+    public final void setParsePatternScope(final ParsePatternScope value) {
+        parsePatternScopeProperty().set(value);
+    }
+
+    public enum ParsePatternScope {
+        CONTROL, SHARED
+    }
+
+    // shared by the pickers with the same locale and chronology
+    private StringConverter<LocalDateTime> defaultConverter = FastLocalDateTimeStringConverter.of(FormatStyle.SHORT,
+        FormatStyle.SHORT, Locale.getDefault(), this.getChronology());
 
     private BooleanProperty _24HourView = new SimpleBooleanProperty(false);
 
@@ -383,6 +634,261 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
         _24HourViewProperty().setValue(value);
     }
 
+    /**
+     * when enabled, the popup content only re-renders the day cells whose date
+     * or state (today, selected, out of range) has changed since the last refresh,
+     * so {@code updateItem} of a custom day cell is not called for unchanged cells.
+     */
+    private BooleanProperty incrementalCellRefresh = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty incrementalCellRefreshProperty() {
+        return this.incrementalCellRefresh;
+    }
+
+    public final boolean isIncrementalCellRefresh() {
+        return incrementalCellRefreshProperty().get();
+    }
+
+    public final void setIncrementalCellRefresh(final boolean value) {
+        incrementalCellRefreshProperty().set(value);
+    }
+
+    /**
+     * when enabled, the skin computes the month layouts and labels of the popup
+     * in a background thread as soon as it's created, then builds the popup content
+     * in a later pulse, so the first {@link #show()} doesn't have to build it.
+     */
+    private BooleanProperty prewarmPopup = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty prewarmPopupProperty() {
+        return this.prewarmPopup;
+    }
+
+    public final boolean isPrewarmPopup() {
+        return prewarmPopupProperty().get();
+    }
+
+    public final void setPrewarmPopup(final boolean value) {
+        prewarmPopupProperty().set(value);
+    }
+
+    /**
+     * when enabled, the popup content is returned to a pool shared by all the pickers
+     * when the popup is hidden, and is rebound to the next picker being shown.
+     * A content is only shared by pickers with the same 24 hour view, its day cells
+     * are rebuilt when it's rebound to a picker with another day cell factory.
+     * It has no effect when the picker is shown as an overlay.
+     *
+     * @see com.jfoenix.skins.DateTimePickerContentPool
+     */
+    private BooleanProperty sharedPopupContent = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty sharedPopupContentProperty() {
+        return this.sharedPopupContent;
+    }
+
+    public final boolean isSharedPopupContent() {
+        return sharedPopupContentProperty().get();
+    }
+
+    public final void setSharedPopupContent(final boolean value) {
+        sharedPopupContentProperty().set(value);
+    }
+
+    /**
+     * when enabled, dragging the clock pointer only moves the pointer, and the
+     * selected time is committed to the value once per pulse and when the pointer
+     * is released, instead of once per mouse event.
+     */
+    private BooleanProperty coalesceClockDrag = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty coalesceClockDragProperty() {
+        return this.coalesceClockDrag;
+    }
+
+    public final boolean isCoalesceClockDrag() {
+        return coalesceClockDragProperty().get();
+    }
+
+    public final void setCoalesceClockDrag(final boolean value) {
+        coalesceClockDragProperty().set(value);
+    }
+
+    /**
+     * when enabled, the repeats of a key held down in the popup skip the month
+     * flip animation, and the months paged by PageUp / PageDown or the time
+     * stepped on the clock are committed once per pulse instead of once per repeat.
+     */
+    private BooleanProperty coalesceKeyRepeat = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty coalesceKeyRepeatProperty() {
+        return this.coalesceKeyRepeat;
+    }
+
+    public final boolean isCoalesceKeyRepeat() {
+        return coalesceKeyRepeatProperty().get();
+    }
+
+    public final void setCoalesceKeyRepeat(final boolean value) {
+        coalesceKeyRepeatProperty().set(value);
+    }
+
+    /**
+     * when enabled, the editor is split into day, month, year, hour and minute
+     * segments laid out by {@link SegmentedDateTimeLayout}: the digits are typed
+     * into the active segment, which advances when it's complete, the arrow keys
+     * step the active segment or move to the next one, and the keys that would
+     * make the segment invalid are rejected as they are typed.
+     * The converter isn't used to format nor to parse the editor text in this mode.
+     */
+    private BooleanProperty segmentedEditing = new SimpleBooleanProperty(false);
+
+    public final BooleanProperty segmentedEditingProperty() {
+        return this.segmentedEditing;
+    }
+
+    public final boolean isSegmentedEditing() {
+        return segmentedEditingProperty().get();
+    }
+
+    public final void setSegmentedEditing(final boolean value) {
+        segmentedEditingProperty().set(value);
+    }
+
+    /**
+     * the way the popup content animates the month flips and the switches
+     * between the calendar and the clock
+     */
+    private ObjectProperty<TransitionMode> transitionMode =
+        new SimpleObjectProperty<>(this, "transitionMode", TransitionMode.SNAPSHOT);
+
+    public final ObjectProperty<TransitionMode> transitionModeProperty() {
+        return this.transitionMode;
+    }
+
+    public final TransitionMode getTransitionMode() {
+        return transitionModeProperty().get();
+    }
+
+    public final void setTransitionMode(final TransitionMode value) {
+        transitionModeProperty().set(value);
+    }
+
+    public enum TransitionMode {
+        /**
+         * the outgoing view is rendered into a snapshot image that is reused
+         * by the next transitions as long as the view size doesn't change
+         */
+        SNAPSHOT,
+        /**
+         * the outgoing view is animated as live nodes, no image is rendered
+         */
+        LIVE
+    }
+
+    /**
+     * whether the popup selects the value, a range of date times stored
+     * in {@link #rangeStartProperty()} and {@link #rangeEndProperty()},
+     * or the dates of {@link #getSelectedDates()}
+     */
+    private ObjectProperty<SelectionMode> selectionMode =
+        new SimpleObjectProperty<>(this, "selectionMode", SelectionMode.SINGLE);
+
+    public final ObjectProperty<SelectionMode> selectionModeProperty() {
+        return this.selectionMode;
+    }
+
+    public final SelectionMode getSelectionMode() {
+        return selectionModeProperty().get();
+    }
+
+    public final void setSelectionMode(final SelectionMode value) {
+        selectionModeProperty().set(value);
+    }
+
+    public enum SelectionMode {
+        /**
+         * a click on a day selects the value and hides the popup
+         */
+        SINGLE,
+        /**
+         * the first click on a day selects the range start, the second one the range end,
+         * the popup stays open so the time of the range end can be picked on the clock
+         */
+        RANGE,
+        /**
+         * a click on a day adds it to the selected dates or removes it,
+         * the popup stays open
+         */
+        MULTIPLE
+    }
+
+    /**
+     * the dates selected in the {@link SelectionMode#MULTIPLE} mode
+     */
+    private final EpochDaySet selectedDates = new EpochDaySet();
+
+    public final EpochDaySet getSelectedDates() {
+        return selectedDates;
+    }
+
+    /**
+     * the first date time of the range selected in the {@link SelectionMode#RANGE} mode,
+     * the popup keeps it before or equal to the range end
+     */
+    private ObjectProperty<LocalDateTime> rangeStart = new SimpleObjectProperty<>(this, "rangeStart");
+
+    public final ObjectProperty<LocalDateTime> rangeStartProperty() {
+        return this.rangeStart;
+    }
+
+    public final LocalDateTime getRangeStart() {
+        return rangeStartProperty().get();
+    }
+
+    public final void setRangeStart(final LocalDateTime value) {
+        rangeStartProperty().set(value);
+    }
+
+    /**
+     * the last date time of the range selected in the {@link SelectionMode#RANGE} mode
+     */
+    private ObjectProperty<LocalDateTime> rangeEnd = new SimpleObjectProperty<>(this, "rangeEnd");
+
+    public final ObjectProperty<LocalDateTime> rangeEndProperty() {
+        return this.rangeEnd;
+    }
+
+    public final LocalDateTime getRangeEnd() {
+        return rangeEndProperty().get();
+    }
+
+    public final void setRangeEnd(final LocalDateTime value) {
+        rangeEndProperty().set(value);
+    }
+
+    /**
+     * the range endpoint edited by the next click on a day and by the clock
+     */
+    private ObjectProperty<RangeEndpoint> activeRangeEndpoint =
+        new SimpleObjectProperty<>(this, "activeRangeEndpoint", RangeEndpoint.START);
+
+    public final ObjectProperty<RangeEndpoint> activeRangeEndpointProperty() {
+        return this.activeRangeEndpoint;
+    }
+
+    public final RangeEndpoint getActiveRangeEndpoint() {
+        return activeRangeEndpointProperty().get();
+    }
+
+    public final void setActiveRangeEndpoint(final RangeEndpoint value) {
+        activeRangeEndpointProperty().set(value);
+    }
+
+    public enum RangeEndpoint {
+        START, END
+    }
+
     /**
      * The editor for the DateTimePicker.
      *
@@ -404,12 +910,14 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
                 }
             });
             editorNode.activeValidatorWritableProperty().bind(activeValidatorProperty());
+            validationScheduler.attach(editorNode);
             editor.set(editorNode);
         }
         return editor.getReadOnlyProperty();
     }
 
     private ValidationControl validationControl = new ValidationControl(this);
+    private final ValidationScheduler validationScheduler = new ValidationScheduler(this, validationControl);
 
     @Override
     public ValidatorBase getActiveValidator() {
@@ -431,14 +939,93 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
         validationControl.setValidators(validators);
     }
 
+    /**
+     * evaluates all the validators now, whatever the validation triggers.
+     * Prefer {@link #requestValidation()} in value or text listeners.
+     */
     @Override
     public boolean validate() {
-        return validationControl.validate();
+        return validationScheduler.validate();
     }
 
     @Override
     public void resetValidation() {
-        validationControl.resetValidation();
+        validationScheduler.resetValidation();
+    }
+
+    /**
+     * validates the picker in the next pulse: the requests made in the same pulse
+     * are coalesced into one validation, which only evaluates the validators whose
+     * inputs (the value, the editor text, the range and the selected dates) have changed
+     * since their last evaluation.
+     */
+    public void requestValidation() {
+        validationScheduler.requestValidation();
+    }
+
+    /**
+     * the events that request a validation, none by default
+     */
+    private final ObservableSet<ValidationTrigger> validationTriggers =
+        FXCollections.observableSet(EnumSet.noneOf(ValidationTrigger.class));
+
+    public final ObservableSet<ValidationTrigger> getValidationTriggers() {
+        return validationTriggers;
+    }
+
+    public final void setValidationTriggers(ValidationTrigger... triggers) {
+        validationTriggers.retainAll(Arrays.asList(triggers));
+        Collections.addAll(validationTriggers, triggers);
+    }
+
+    public enum ValidationTrigger {
+        /**
+         * a change of the value, the range or the selected dates,
+         * e.g. once per pulse while the clock is dragged
+         */
+        ON_COMMIT,
+        /**
+         * the end of the {@link #validationIdleDelayProperty() idle delay}
+         * after the last change of the value or of the editor text
+         */
+        ON_IDLE,
+        /**
+         * the loss of the focus by the picker
+         */
+        ON_FOCUS_LOST
+    }
+
+    /**
+     * the delay without input after which the {@link ValidationTrigger#ON_IDLE} trigger validates
+     */
+    private ObjectProperty<Duration> validationIdleDelay =
+        new SimpleObjectProperty<>(this, "validationIdleDelay", Duration.millis(500));
+
+    public final ObjectProperty<Duration> validationIdleDelayProperty() {
+        return this.validationIdleDelay;
+    }
+
+    public final Duration getValidationIdleDelay() {
+        return validationIdleDelayProperty().get();
+    }
+
+    public final void setValidationIdleDelay(final Duration value) {
+        validationIdleDelayProperty().set(value);
+    }
+
+    /**
+     * @return the number of validations run, requested or explicit
+     */
+    public long getValidationRunCount() {
+        return validationScheduler.getRunCount();
+    }
+
+    /**
+     * @return the number of validator evaluations skipped by the requested
+     * validations, because the inputs of the validators were unchanged
+     */
+    public long getSkippedValidatorCount() {
+        return validationScheduler.getSkippedValidatorCount();
     }
 
     /***************************************************************************
@@ -501,7 +1088,7 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
     private static class StyleableProperties {
         private static final CssMetaData<JFXDateTimePicker, Paint> DEFAULT_COLOR =
             new CssMetaData<JFXDateTimePicker, Paint>("-jfx-default-color",
-                PaintConverter.getInstance(), Color.valueOf("#009688")) {
+                StyleConverter.getPaintConverter(), Color.valueOf("#009688")) {
                 @Override
                 public boolean isSettable(JFXDateTimePicker control) {
                     return control.defaultColor == null || !control.defaultColor.isBound();
@@ -515,7 +1102,7 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
 
         private static final CssMetaData<JFXDateTimePicker, Boolean> OVERLAY =
             new CssMetaData<JFXDateTimePicker, Boolean>("-jfx-overlay",
-                BooleanConverter.getInstance(), false) {
+                StyleConverter.getBooleanConverter(), false) {
                 @Override
                 public boolean isSettable(JFXDateTimePicker control) {
                     return control.overLay == null || !control.overLay.isBound();
@@ -537,7 +1124,7 @@ public class JFXDateTimePicker extends ComboBoxBase<LocalDateTime> implements IF
             Locale.getDefault(Locale.Category.FORMAT).getCountry();
         private static final CssMetaData<JFXDateTimePicker, Boolean> SHOW_WEEK_NUMBERS =
               new CssMetaData<JFXDateTimePicker, Boolean>("-fx-show-week-numbers",
-                   BooleanConverter.getInstance(),
+                   StyleConverter.getBooleanConverter(),
                    (!country.isEmpty() &&
                     ControlResources.getNonTranslatableString("DatePicker.showWeekNumbers").contains(country))) {
             @Override public boolean isSettable(JFXDateTimePicker n) {
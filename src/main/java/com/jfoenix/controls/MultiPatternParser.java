@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MultiPatternParser parses the texts typed or pasted in a {@link JFXDateTimePicker}
+ * with a list of patterns, tried in the order of their hit counts so the most used
+ * pattern is tried first. Besides the {@link DateTimeFormatter} patterns, the list can
+ * hold the {@link #ISO} and {@link #EPOCH_MILLIS} tokens.
+ * <p>A pattern is only resolved once {@link DateTimeFormatter#parseUnresolved} has
+ * matched the whole text, so the patterns that don't match cost no exception.
+ * The patterns without a time resolve to the start of the day.</p>
+ * <p>A parser can be used by one picker, or shared with {@link #shared(List, Locale)}
+ * by all the pickers with the same patterns, which then learn the order together.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public class MultiPatternParser {
+
+    /**
+     * ISO local date time, with an optional time, offset and zone id. The date times
+     * with an offset are converted to the default time zone.
+     */
+    public static final String ISO = "ISO";
+    /**
+     * milliseconds from the epoch, converted to the default time zone
+     */
+    public static final String EPOCH_MILLIS = "EPOCH_MILLIS";
+
+    private static final int MAXIMUM_SHARED_PARSERS = 16;
+    // the hit counts are halved when one of them reaches this value, so the order follows the recent usage
+    private static final long MAXIMUM_HIT_COUNT = 1 << 16;
+
+    private static final DateTimeFormatter ISO_FORMATTER = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE)
+        .optionalStart()
+        .appendLiteral('T')
+        .append(DateTimeFormatter.ISO_LOCAL_TIME)
+        .optionalStart()
+        .appendOffsetId()
+        .optionalEnd()
+        .optionalStart()
+        .appendLiteral('[')
+        .parseCaseSensitive()
+        .appendZoneRegionId()
+        .appendLiteral(']')
+        .toFormatter();
+
+    private static final Map<Key, MultiPatternParser> sharedParsers =
+        new LinkedHashMap<Key, MultiPatternParser>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, MultiPatternParser> eldest) {
+                return size() > MAXIMUM_SHARED_PARSERS;
+            }
+        };
+
+    // kept sorted by descending hit count
+    private final Entry[] entries;
+
+    /**
+     * @return the parser shared by all the callers with the same patterns and locale
+     */
+    public static MultiPatternParser shared(List<String> patterns, Locale locale) {
+        Key key = new Key(new ArrayList<>(patterns), locale);
+        synchronized (sharedParsers) {
+            MultiPatternParser parser = sharedParsers.get(key);
+            if (parser == null) {
+                parser = new MultiPatternParser(key.patterns, locale);
+                sharedParsers.put(key, parser);
+            }
+            return parser;
+        }
+    }
+
+    /**
+     * @param patterns the {@link DateTimeFormatter} patterns, {@link #ISO} or {@link #EPOCH_MILLIS}
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    public MultiPatternParser(List<String> patterns, Locale locale) {
+        locale = locale == null ? Locale.getDefault() : locale;
+        entries = new Entry[patterns.size()];
+        for (int i = 0; i < entries.length; i++) {
+            String pattern = patterns.get(i);
+            DateTimeFormatter formatter;
+            if (ISO.equals(pattern)) {
+                formatter = ISO_FORMATTER;
+            } else if (EPOCH_MILLIS.equals(pattern)) {
+                formatter = null;
+            } else {
+                formatter = new DateTimeFormatterBuilder().parseCaseInsensitive()
+                    .appendPattern(pattern)
+                    .toFormatter(locale);
+            }
+            entries[i] = new Entry(pattern, formatter);
+        }
+    }
+
+    /**
+     * @return the parsed value, or null if none of the patterns matches the text
+     */
+    public LocalDateTime parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        text = text.trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        synchronized (this) {
+            for (int i = 0; i < entries.length; i++) {
+                LocalDateTime dateTime = entries[i].parse(text);
+                if (dateTime != null) {
+                    hit(i);
+                    return dateTime;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the patterns in the order they are tried
+     */
+    public synchronized List<String> getPatternOrder() {
+        List<String> patterns = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            patterns.add(entry.pattern);
+        }
+        return Collections.unmodifiableList(patterns);
+    }
+
+    public synchronized long getHitCount(String pattern) {
+        for (Entry entry : entries) {
+            if (entry.pattern.equals(pattern)) {
+                return entry.hitCount;
+            }
+        }
+        return 0;
+    }
+
+    /*
+     * counts the hit and moves the entry before the entries with fewer hits,
+     * the order of the entries with the same count is kept
+     */
+    private void hit(int index) {
+        Entry entry = entries[index];
+        if (++entry.hitCount >= MAXIMUM_HIT_COUNT) {
+            for (Entry e : entries) {
+                e.hitCount >>= 1;
+            }
+        }
+        while (index > 0 && entries[index - 1].hitCount < entry.hitCount) {
+            entries[index] = entries[index - 1];
+            index--;
+        }
+        entries[index] = entry;
+    }
+
+    /**
+     * parses the whole text with the formatter, without throwing if it doesn't match
+     *
+     * @return the resolved temporal, or null if the text doesn't match the formatter
+     * or if its fields can't be resolved
+     */
+    static TemporalAccessor parseWhole(DateTimeFormatter formatter, String text) {
+        ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(text, position) == null
+            || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+            return null;
+        }
+        try {
+            // only the matching pattern is resolved, an exception means invalid field values
+            return formatter.parse(text);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    private static final class Entry {
+        private final String pattern;
+        // null for the epoch millis
+        private final DateTimeFormatter formatter;
+        private long hitCount = 0;
+
+        private Entry(String pattern, DateTimeFormatter formatter) {
+            this.pattern = pattern;
+            this.formatter = formatter;
+        }
+
+        private LocalDateTime parse(String text) {
+            if (formatter == null) {
+                return parseEpochMillis(text);
+            }
+            TemporalAccessor temporal = parseWhole(formatter, text);
+            if (temporal == null) {
+                return null;
+            }
+            if (temporal.isSupported(ChronoField.OFFSET_SECONDS)) {
+                return LocalDateTime.ofInstant(Instant.from(temporal), ZoneId.systemDefault());
+            }
+            LocalDate date = temporal.query(TemporalQueries.localDate());
+            if (date == null) {
+                return null;
+            }
+            LocalTime time = temporal.query(TemporalQueries.localTime());
+            return LocalDateTime.of(date, time == null ? LocalTime.MIDNIGHT : time);
+        }
+
+        private static LocalDateTime parseEpochMillis(String text) {
+            int start = text.charAt(0) == '-' ? 1 : 0;
+            // 18 digits can't overflow a long
+            if (text.length() == start || text.length() - start > 18) {
+                return null;
+            }
+            long millis = 0;
+            for (int i = start; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9') {
+                    return null;
+                }
+                millis = millis * 10 + (c - '0');
+            }
+            try {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(start == 0 ? millis : -millis), ZoneId.systemDefault());
+            } catch (DateTimeException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Key {
+        private final List<String> patterns;
+        private final Locale locale;
+
+        private Key(List<String> patterns, Locale locale) {
+            this.patterns = patterns;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return patterns.equals(key.patterns) && Objects.equals(locale, key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(patterns, locale);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls;
+
+import java.time.LocalDateTime;
+
+import javafx.util.StringConverter;
+
+/**
+ * MultiPatternStringConverter formats the values with a base converter, and parses
+ * the texts with the base converter first, then with a {@link MultiPatternParser}.
+ * When none of them matches, the error of the base converter is thrown.
+ *
+ * @author Roman Gorovoy
+ */
+public class MultiPatternStringConverter extends StringConverter<LocalDateTime> {
+
+    private final StringConverter<LocalDateTime> baseConverter;
+    private final MultiPatternParser parser;
+
+    public MultiPatternStringConverter(StringConverter<LocalDateTime> baseConverter, MultiPatternParser parser) {
+        this.baseConverter = baseConverter;
+        this.parser = parser;
+    }
+
+    public StringConverter<LocalDateTime> getBaseConverter() {
+        return baseConverter;
+    }
+
+    public MultiPatternParser getParser() {
+        return parser;
+    }
+
+    @Override
+    public String toString(LocalDateTime value) {
+        return baseConverter.toString(value);
+    }
+
+    @Override
+    public LocalDateTime fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        if (baseConverter instanceof FastLocalDateTimeStringConverter) {
+            // tried without an exception when the text has another format
+            LocalDateTime dateTime = ((FastLocalDateTimeStringConverter) baseConverter).tryParse(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+            dateTime = parser.parse(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+            return baseConverter.fromString(value);
+        }
+        // a custom converter has precedence over the patterns, e.g. dd/MM over MM/dd
+        RuntimeException baseException;
+        try {
+            LocalDateTime dateTime = baseConverter.fromString(value);
+            if (dateTime != null) {
+                return dateTime;
+            }
+            baseException = null;
+        } catch (RuntimeException ex) {
+            baseException = ex;
+        }
+        LocalDateTime dateTime = parser.parse(value);
+        if (dateTime != null || baseException == null) {
+            return dateTime;
+        }
+        throw baseException;
+    }
+}
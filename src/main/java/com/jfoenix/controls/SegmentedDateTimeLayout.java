@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.controls;
+
+import java.time.LocalDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.FormatStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SegmentedDateTimeLayout is the fixed width layout of the text edited in the
+ * segmented editing mode of {@link JFXDateTimePicker}: the day, month, year, hour
+ * and minute segments in the order of the short pattern of the locale, separated
+ * by its separators, e.g. {@code 12/31/2019 23:59} in the US locale.
+ * <p>Each segment is a fixed number of digits at a fixed offset, so the editor parses
+ * and formats one segment at a time, as an int, instead of the whole text.
+ * The hours are always shown as a 24 hour clock. The layouts are computed once
+ * per locale and cached.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public final class SegmentedDateTimeLayout {
+
+    private static final Map<Locale, SegmentedDateTimeLayout> layouts = new ConcurrentHashMap<>();
+
+    private static final ChronoField[] FIELDS = {
+        ChronoField.DAY_OF_MONTH, ChronoField.MONTH_OF_YEAR, ChronoField.YEAR,
+        ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR
+    };
+
+    private final ChronoField[] fields;
+    private final int[] starts;
+    private final int[] widths;
+    // separator written before each segment, empty for the first one
+    private final String[] separators;
+    private final int length;
+
+    private SegmentedDateTimeLayout(List<ChronoField> fields, List<String> separators) {
+        int count = fields.size();
+        this.fields = fields.toArray(new ChronoField[count]);
+        this.separators = separators.toArray(new String[count]);
+        this.starts = new int[count];
+        this.widths = new int[count];
+        int offset = 0;
+        for (int i = 0; i < count; i++) {
+            offset += this.separators[i].length();
+            starts[i] = offset;
+            widths[i] = this.fields[i] == ChronoField.YEAR ? 4 : 2;
+            offset += widths[i];
+        }
+        length = offset;
+    }
+
+    /**
+     * @return the layout of the short date time pattern of the locale
+     */
+    public static SegmentedDateTimeLayout of(Locale locale) {
+        return layouts.computeIfAbsent(locale, SegmentedDateTimeLayout::create);
+    }
+
+    private static SegmentedDateTimeLayout create(Locale locale) {
+        String pattern = DateTimeFormatterBuilder.getLocalizedDateTimePattern(FormatStyle.SHORT,
+            FormatStyle.SHORT, IsoChronology.INSTANCE, locale);
+        List<ChronoField> fields = new ArrayList<>(FIELDS.length);
+        List<String> separators = new ArrayList<>(FIELDS.length);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                // quoted text, '' is a quote
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    end = pattern.length();
+                }
+                literal.append(end == i + 1 ? "'" : pattern.substring(i + 1, end));
+                i = end;
+                continue;
+            }
+            if (!Character.isLetter(c)) {
+                literal.append(c);
+                continue;
+            }
+            int end = i;
+            while (end + 1 < pattern.length() && pattern.charAt(end + 1) == c) {
+                end++;
+            }
+            i = end;
+            ChronoField field = toField(c);
+            if (field == null || fields.contains(field)) {
+                // the other fields (am / pm, era...) are not edited
+                literal.setLength(0);
+                continue;
+            }
+            fields.add(field);
+            separators.add(fields.size() == 1 ? "" : literal.toString());
+            literal.setLength(0);
+        }
+        if (fields.size() != FIELDS.length) {
+            // the pattern lacks a field, the ISO order is used
+            fields.clear();
+            separators.clear();
+            fields.add(ChronoField.DAY_OF_MONTH);
+            fields.add(ChronoField.MONTH_OF_YEAR);
+            fields.add(ChronoField.YEAR);
+            fields.add(ChronoField.HOUR_OF_DAY);
+            fields.add(ChronoField.MINUTE_OF_HOUR);
+            separators.add("");
+            separators.add("/");
+            separators.add("/");
+            separators.add(" ");
+            separators.add(":");
+        }
+        for (int i = 1; i < separators.size(); i++) {
+            // adjacent fields are separated, e.g. the hour and the minute of 'HHmm'
+            if (separators.get(i).isEmpty()) {
+                separators.set(i, " ");
+            }
+        }
+        return new SegmentedDateTimeLayout(fields, separators);
+    }
+
+    private static ChronoField toField(char letter) {
+        switch (letter) {
+            case 'd':
+                return ChronoField.DAY_OF_MONTH;
+            case 'M':
+            case 'L':
+                return ChronoField.MONTH_OF_YEAR;
+            case 'y':
+            case 'u':
+                return ChronoField.YEAR;
+            case 'H':
+            case 'h':
+            case 'k':
+            case 'K':
+                return ChronoField.HOUR_OF_DAY;
+            case 'm':
+                return ChronoField.MINUTE_OF_HOUR;
+            default:
+                return null;
+        }
+    }
+
+    public int getSegmentCount() {
+        return fields.length;
+    }
+
+    public ChronoField getField(int segment) {
+        return fields[segment];
+    }
+
+    /**
+     * @return the index of the segment of the field
+     */
+    public int indexOf(ChronoField field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == field) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getStart(int segment) {
+        return starts[segment];
+    }
+
+    public int getEnd(int segment) {
+        return starts[segment] + widths[segment];
+    }
+
+    public int getWidth(int segment) {
+        return widths[segment];
+    }
+
+    public String getSeparator(int segment) {
+        return separators[segment];
+    }
+
+    /**
+     * @return the length of the formatted text
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return the segment at the caret position, the caret
+     * at the end of a segment belongs to that segment
+     */
+    public int segmentAt(int caret) {
+        for (int i = fields.length - 1; i > 0; i--) {
+            if (caret >= starts[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the zero padded digits of the value of a segment
+     */
+    public String formatSegment(int segment, int value) {
+        String digits = Integer.toString(value);
+        int padding = widths[segment] - digits.length();
+        if (padding <= 0) {
+            return digits;
+        }
+        StringBuilder builder = new StringBuilder(widths[segment]);
+        for (int i = 0; i < padding; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
+    }
+
+    /**
+     * @return the text of the values, one per segment
+     */
+    public String format(int[] values) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < fields.length; i++) {
+            builder.append(separators[i]).append(formatSegment(i, values[i]));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * writes the fields of the date time into the values, one per segment
+     */
+    public void toValues(LocalDateTime dateTime, int[] values) {
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = dateTime.get(fields[i]);
+        }
+    }
+
+    /**
+     * parses a text of this layout into the values, one per segment
+     *
+     * @return false if the text doesn't match the layout, the values are then unspecified
+     */
+    public boolean parse(CharSequence text, int[] values) {
+        if (text.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            int start = starts[i];
+            String separator = separators[i];
+            for (int j = 0; j < separator.length(); j++) {
+                if (text.charAt(start - separator.length() + j) != separator.charAt(j)) {
+                    return false;
+                }
+            }
+            int value = 0;
+            for (int j = start; j < start + widths[i]; j++) {
+                char c = text.charAt(j);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                value = value * 10 + c - '0';
+            }
+            values[i] = value;
+        }
+        return true;
+    }
+}
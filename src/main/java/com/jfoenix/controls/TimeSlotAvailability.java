@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * TimeSlotAvailability holds the hours and minutes of a day that can be selected
+ * with the clock of a {@link JFXDateTimePicker} as bitmasks, one bit per hour and
+ * one bit per minute of each hour, so checking a value is a bit test.
+ * All the values are available unless they are marked otherwise.
+ *
+ * @author Roman Gorovoy
+ */
+public class TimeSlotAvailability {
+
+    private static final int ALL_HOURS = (1 << 24) - 1;
+    private static final long ALL_MINUTES = (1L << 60) - 1;
+
+    private int hours = ALL_HOURS;
+    private final long[] minutes = new long[24];
+
+    public TimeSlotAvailability() {
+        Arrays.fill(minutes, ALL_MINUTES);
+    }
+
+    /**
+     * @return true if the hour and at least one of its minutes are available
+     */
+    public boolean isHourAvailable(int hour) {
+        return (hours & (1 << hour)) != 0 && minutes[hour] != 0;
+    }
+
+    public boolean isMinuteAvailable(int hour, int minute) {
+        return (hours & (1 << hour)) != 0 && (minutes[hour] & (1L << minute)) != 0;
+    }
+
+    public boolean isAvailable(LocalTime time) {
+        return isMinuteAvailable(time.getHour(), time.getMinute());
+    }
+
+    /**
+     * sets the availability of the whole hour
+     */
+    public void setHourAvailable(int hour, boolean available) {
+        checkHour(hour);
+        hours = available ? hours | (1 << hour) : hours & ~(1 << hour);
+        minutes[hour] = available ? ALL_MINUTES : 0;
+    }
+
+    public void setMinuteAvailable(int hour, int minute, boolean available) {
+        checkHour(hour);
+        if (minute < 0 || minute > 59) {
+            throw new IllegalArgumentException("invalid minute: " + minute);
+        }
+        minutes[hour] = available ? minutes[hour] | (1L << minute) : minutes[hour] & ~(1L << minute);
+        if (available) {
+            hours |= 1 << hour;
+        }
+    }
+
+    /**
+     * sets the availability of the minutes from {@code from} inclusive to {@code to} exclusive,
+     * {@link LocalTime#MAX} stands for the end of the day
+     */
+    public void setAvailable(LocalTime from, LocalTime to, boolean available) {
+        int start = from.getHour() * 60 + from.getMinute();
+        int end = LocalTime.MAX.equals(to) ? 24 * 60 : to.getHour() * 60 + to.getMinute();
+        for (int hour = start / 60; hour < 24 && hour * 60 < end; hour++) {
+            int firstMinute = Math.max(start - hour * 60, 0);
+            int lastMinute = Math.min(end - hour * 60, 60);
+            long mask = (lastMinute == 60 ? ALL_MINUTES : (1L << lastMinute) - 1) & ~((1L << firstMinute) - 1);
+            minutes[hour] = available ? minutes[hour] | mask : minutes[hour] & ~mask;
+            if (available) {
+                hours |= 1 << hour;
+            }
+        }
+    }
+
+    private static void checkHour(int hour) {
+        if (hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("invalid hour: " + hour);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.controls;
+
+import java.time.LocalDate;
+
+/**
+ * TimeSlotAvailabilityProvider tells which hours and minutes of a day can be selected
+ * with the clock of a {@link JFXDateTimePicker}. It's asked once per selected date,
+ * the results are cached by the popup content, and the clock only tests the
+ * returned bitmasks while the pointer is dragged.
+ *
+ * @author Roman Gorovoy
+ */
+@FunctionalInterface
+public interface TimeSlotAvailabilityProvider {
+
+    /**
+     * @return the time slots of the date, or null if all of them are available.
+     * the returned availability must not be modified afterwards.
+     */
+    TimeSlotAvailability getTimeSlotAvailability(LocalDate date);
+}
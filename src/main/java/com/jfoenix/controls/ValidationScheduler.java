@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.controls;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.jfoenix.controls.JFXDateTimePicker.ValidationTrigger;
+import com.jfoenix.validation.base.ValidatorBase;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+
+/**
+ * runs the validators of a {@link JFXDateTimePicker} on its
+ * {@link JFXDateTimePicker#getValidationTriggers() validation triggers}.
+ * <p>The validation requests are coalesced into one run per pulse, and a scheduled
+ * run only evaluates the validators whose inputs, i.e. the value, the editor text,
+ * the range and the selected dates, have changed since their last evaluation:
+ * the others keep their previous result. {@link #validate()} evaluates them all.</p>
+ *
+ * @author Roman Gorovoy
+ */
+final class ValidationScheduler {
+
+    private final JFXDateTimePicker dateTimePicker;
+    private final ValidationControl validationControl;
+
+    // incremented when an input of the validators changes
+    private long inputStamp = 0;
+    // the input stamp of the last evaluation of each validator
+    private final Map<ValidatorBase, Long> evaluatedStamps = new IdentityHashMap<>();
+
+    private long runCount = 0;
+    private long skippedValidatorCount = 0;
+
+    // runs the requested validation once per pulse
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            run(false);
+        }
+    };
+    private final PauseTransition idleTimer = new PauseTransition();
+
+    private final InvalidationListener valueListener = observable -> valueChanged();
+    private final InvalidationListener textListener = observable -> textChanged();
+
+    ValidationScheduler(JFXDateTimePicker dateTimePicker, ValidationControl validationControl) {
+        this.dateTimePicker = dateTimePicker;
+        this.validationControl = validationControl;
+        idleTimer.setOnFinished(event -> {
+            if (dateTimePicker.getValidationTriggers().contains(ValidationTrigger.ON_IDLE)) {
+                requestValidation();
+            }
+        });
+        dateTimePicker.valueProperty().addListener(valueListener);
+        dateTimePicker.rangeStartProperty().addListener(valueListener);
+        dateTimePicker.rangeEndProperty().addListener(valueListener);
+        dateTimePicker.getSelectedDates().addListener(valueListener);
+        dateTimePicker.focusedProperty().addListener((obj, oldVal, newVal) -> {
+            // the skin commits the editor text before the validation pulse
+            if (!newVal && dateTimePicker.getValidationTriggers().contains(ValidationTrigger.ON_FOCUS_LOST)) {
+                requestValidation();
+            }
+        });
+        // the validators added or replaced are evaluated by the next run
+        validationControl.getValidators().addListener((InvalidationListener) observable -> evaluatedStamps.clear());
+    }
+
+    /**
+     * the editor text is an input of the validators
+     */
+    void attach(TextField editor) {
+        editor.textProperty().addListener(textListener);
+    }
+
+    /**
+     * validates in the next pulse, the requests of the same pulse are coalesced
+     */
+    void requestValidation() {
+        pulseTimer.start();
+    }
+
+    /**
+     * evaluates all the validators now
+     */
+    boolean validate() {
+        pulseTimer.stop();
+        return run(true);
+    }
+
+    void resetValidation() {
+        pulseTimer.stop();
+        idleTimer.stop();
+        evaluatedStamps.clear();
+        validationControl.resetValidation();
+    }
+
+    long getRunCount() {
+        return runCount;
+    }
+
+    long getSkippedValidatorCount() {
+        return skippedValidatorCount;
+    }
+
+    private void valueChanged() {
+        inputStamp++;
+        if (dateTimePicker.getValidationTriggers().contains(ValidationTrigger.ON_COMMIT)) {
+            requestValidation();
+        }
+        restartIdleTimer();
+    }
+
+    private void textChanged() {
+        inputStamp++;
+        restartIdleTimer();
+    }
+
+    private void restartIdleTimer() {
+        if (dateTimePicker.getValidationTriggers().contains(ValidationTrigger.ON_IDLE)) {
+            Duration delay = dateTimePicker.getValidationIdleDelay();
+            idleTimer.setDuration(delay == null ? Duration.ZERO : delay);
+            idleTimer.playFromStart();
+        } else {
+            idleTimer.stop();
+        }
+    }
+
+    /*
+     * same as ValidationControl.validate(), the first validator
+     * with errors becomes the active validator
+     */
+    private boolean run(boolean all) {
+        runCount++;
+        for (ValidatorBase validator : validationControl.getValidators()) {
+            Long stamp = evaluatedStamps.get(validator);
+            if (all || stamp == null || stamp != inputStamp) {
+                validator.setSrcControl(dateTimePicker);
+                validator.validate();
+                evaluatedStamps.put(validator, inputStamp);
+            } else {
+                skippedValidatorCount++;
+            }
+            if (validator.getHasErrors()) {
+                validationControl.activeValidatorWritableProperty().set(validator);
+                return false;
+            }
+        }
+        validationControl.activeValidatorWritableProperty().set(null);
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.controls.events;
+
+import java.time.YearMonth;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+
+/**
+ * DateAvailabilityFailedEvent is fired by a {@link com.jfoenix.controls.JFXDateTimePicker}
+ * when its async availability provider fails to load a month. The days of the month
+ * are shown as available, and the month is requested again when it's displayed again.
+ *
+ * @author Roman Gorovoy
+ */
+public class DateAvailabilityFailedEvent extends Event {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final EventType<DateAvailabilityFailedEvent> AVAILABILITY_FAILED =
+        new EventType<>(Event.ANY, "DATE_TIME_PICKER_AVAILABILITY_FAILED");
+
+    private final transient Throwable failure;
+    private final transient YearMonth yearMonth;
+
+    public DateAvailabilityFailedEvent(Throwable failure, YearMonth yearMonth) {
+        super(AVAILABILITY_FAILED);
+        this.failure = failure;
+        this.yearMonth = yearMonth;
+    }
+
+    /**
+     * @return the failure of the provider
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * @return the month that couldn't be loaded
+     */
+    public YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EventType<? extends DateAvailabilityFailedEvent> getEventType() {
+        return (EventType<? extends DateAvailabilityFailedEvent>) super.getEventType();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls.events;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+
+/**
+ * JFXDateTimePickerEvent is fired by a {@link com.jfoenix.controls.JFXDateTimePicker}
+ * when a value or a chronology it can't represent is rejected, and the last valid one
+ * is restored.
+ *
+ * @author Roman Gorovoy
+ */
+public class JFXDateTimePickerEvent extends Event {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final EventType<JFXDateTimePickerEvent> ANY =
+        new EventType<>(Event.ANY, "DATE_TIME_PICKER");
+
+    /**
+     * the value is out of the range of the chronology, the rejected and restored
+     * objects are LocalDateTime
+     */
+    public static final EventType<JFXDateTimePickerEvent> VALUE_REJECTED =
+        new EventType<>(ANY, "DATE_TIME_PICKER_VALUE_REJECTED");
+
+    /**
+     * the value is out of the range of the new chronology, the rejected and restored
+     * objects are Chronology
+     */
+    public static final EventType<JFXDateTimePickerEvent> CHRONOLOGY_REJECTED =
+        new EventType<>(ANY, "DATE_TIME_PICKER_CHRONOLOGY_REJECTED");
+
+    private final transient Object rejected;
+    private final transient Object restored;
+
+    public JFXDateTimePickerEvent(EventType<? extends Event> eventType, Object rejected, Object restored) {
+        super(eventType);
+        this.rejected = rejected;
+        this.restored = restored;
+    }
+
+    /**
+     * @return the rejected value or chronology
+     */
+    public Object getRejected() {
+        return rejected;
+    }
+
+    /**
+     * @return the value or chronology restored instead, may be null
+     */
+    public Object getRestored() {
+        return restored;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public EventType<? extends JFXDateTimePickerEvent> getEventType() {
+        return (EventType<? extends JFXDateTimePickerEvent>) super.getEventType();
+    }
+}
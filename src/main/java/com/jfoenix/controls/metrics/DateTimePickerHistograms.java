@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener.Timing;
+
+/**
+ * DateTimePickerHistograms keeps one histogram per {@link Timing}, in power of two
+ * nanosecond buckets, so recording a measure never allocates. The same instance
+ * can be set on several pickers, and exported as an MXBean with {@link #register(String)}.
+ * <p>The percentiles are the upper bounds of their buckets, capped by the maximum.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public class DateTimePickerHistograms implements DateTimePickerMetricsListener, DateTimePickerHistogramsMXBean {
+
+    private static final int BUCKETS = 64;
+    private static final Timing[] TIMINGS = Timing.values();
+
+    private final long[][] buckets = new long[TIMINGS.length][BUCKETS];
+    private final long[] counts = new long[TIMINGS.length];
+    private final long[] totals = new long[TIMINGS.length];
+    private final long[] maximums = new long[TIMINGS.length];
+
+    private ObjectName objectName;
+
+    @Override
+    public synchronized void record(Timing timing, long nanos) {
+        int index = timing.ordinal();
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[index][BUCKETS - 1 - Long.numberOfLeadingZeros(nanos | 1)]++;
+        counts[index]++;
+        totals[index] += nanos;
+        if (nanos > maximums[index]) {
+            maximums[index] = nanos;
+        }
+    }
+
+    public synchronized long getCount(Timing timing) {
+        return counts[timing.ordinal()];
+    }
+
+    public synchronized long getMean(Timing timing) {
+        int index = timing.ordinal();
+        return counts[index] == 0 ? 0 : totals[index] / counts[index];
+    }
+
+    public synchronized long getMax(Timing timing) {
+        return maximums[timing.ordinal()];
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the duration below which the percentile of the measures falls, 0 if there is none
+     */
+    public synchronized long getPercentile(Timing timing, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        int index = timing.ordinal();
+        if (counts[index] == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(counts[index] * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[index][i];
+            if (seen >= rank) {
+                long upperBound = i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min(upperBound, maximums[index]);
+            }
+        }
+        return maximums[index];
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (int i = 0; i < TIMINGS.length; i++) {
+            Arrays.fill(buckets[i], 0);
+            counts[i] = 0;
+            totals[i] = 0;
+            maximums[i] = 0;
+        }
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * MXBean                                                                  *
+     *                                                                         *
+     **************************************************************************/
+
+    @Override
+    public Map<String, Long> getCounts() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Timing timing : TIMINGS) {
+            map.put(timing.name(), getCount(timing));
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getMeanNanos() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Timing timing : TIMINGS) {
+            map.put(timing.name(), getMean(timing));
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getMaxNanos() {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Timing timing : TIMINGS) {
+            map.put(timing.name(), getMax(timing));
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getMedianNanos() {
+        return getPercentiles(50);
+    }
+
+    @Override
+    public Map<String, Long> get99thPercentileNanos() {
+        return getPercentiles(99);
+    }
+
+    private Map<String, Long> getPercentiles(double percentile) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Timing timing : TIMINGS) {
+            map.put(timing.name(), getPercentile(timing, percentile));
+        }
+        return map;
+    }
+
+    /**
+     * registers the histograms in the platform MBean server as
+     * com.jfoenix:type=JFXDateTimePicker,name=<i>name</i>
+     */
+    public synchronized void register(String name) throws JMException {
+        unregister();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName("com.jfoenix:type=JFXDateTimePicker,name=" + ObjectName.quote(name));
+        server.registerMBean(this, objectName);
+        this.objectName = objectName;
+    }
+
+    public synchronized void unregister() throws JMException {
+        if (objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        }
+    }
+}
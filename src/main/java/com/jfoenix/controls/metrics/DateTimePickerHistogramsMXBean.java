@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls.metrics;
+
+import java.util.Map;
+
+/**
+ * management interface of {@link DateTimePickerHistograms}, the maps are keyed
+ * by the {@link DateTimePickerMetricsListener.Timing} names and the durations
+ * are in nanoseconds.
+ *
+ * @author Roman Gorovoy
+ */
+public interface DateTimePickerHistogramsMXBean {
+
+    Map<String, Long> getCounts();
+
+    Map<String, Long> getMeanNanos();
+
+    Map<String, Long> getMaxNanos();
+
+    Map<String, Long> getMedianNanos();
+
+    Map<String, Long> get99thPercentileNanos();
+
+    void reset();
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.jfoenix.controls.metrics;
+
+/**
+ * DateTimePickerMetricsListener receives the durations measured by the popup
+ * of a {@link com.jfoenix.controls.JFXDateTimePicker}. It's called on the FX
+ * application thread, so it must return quickly. Nothing is measured while the
+ * picker has no listener.
+ *
+ * @author Roman Gorovoy
+ */
+@FunctionalInterface
+public interface DateTimePickerMetricsListener {
+
+    /**
+     * records one measure of the timing, in nanoseconds
+     */
+    void record(Timing timing, long nanos);
+
+    enum Timing {
+        /**
+         * creation of the popup content, or its rebinding when it's taken from the shared pool
+         */
+        POPUP_BUILD,
+        /**
+         * the skin show() call, including the first layout of the popup
+         */
+        SHOW,
+        /**
+         * refresh of the week numbers, day cells and month / year labels
+         */
+        UPDATE_VALUES,
+        /**
+         * rendering of the outgoing view of a transition, snapshot or live copy
+         */
+        TRANSITION_SNAPSHOT,
+        /**
+         * a month flip, from its start to the end of its animation
+         */
+        MONTH_TRANSITION,
+        /**
+         * a switch between the calendar and the clock, from its start to the end of its animation
+         */
+        VIEW_TRANSITION,
+        /**
+         * one call of the user day cell factory
+         */
+        DAY_CELL_FACTORY,
+        /**
+         * one DateCell.updateItem call, which runs the user cell code
+         */
+        DAY_CELL_UPDATE
+    }
+}
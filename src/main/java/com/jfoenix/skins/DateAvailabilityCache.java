@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.jfoenix.controls.AsyncDateAvailabilityProvider;
+import com.jfoenix.controls.DateAvailability;
+import com.jfoenix.controls.DateAvailabilityProvider;
+
+import javafx.application.Platform;
+
+/**
+ * DateAvailabilityCache keeps the availabilities of the last displayed months
+ * returned by the availability provider of a picker, and prefetches the adjacent
+ * months on the availability executor.
+ * <p>With an {@link AsyncDateAvailabilityProvider}, the months are loaded without
+ * blocking, and the loaded months are reported on the FX application thread. The async
+ * methods must be called on the FX application thread.</p>
+ *
+ * @author Roman Gorovoy
+ */
+final class DateAvailabilityCache {
+
+    private static final int MAXIMUM_SIZE = 12;
+
+    private DateAvailabilityProvider provider;
+    private AsyncDateAvailabilityProvider asyncProvider;
+    private Executor executor = DateTimePickerExecutor.getInstance();
+    // incremented when the provider changes, so late results of the old provider are dropped
+    private int generation = 0;
+
+    private final Map<YearMonth, DateAvailability> availabilities =
+        new LinkedHashMap<YearMonth, DateAvailability>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, DateAvailability> eldest) {
+                return size() > MAXIMUM_SIZE;
+            }
+        };
+    // all-available fallbacks of the months the async provider has failed to load,
+    // rendered until the failures are cleared, then loaded again
+    private final Map<YearMonth, DateAvailability> failures = new HashMap<>();
+    // months being loaded by the async provider
+    private final Map<YearMonth, CompletableFuture<DateAvailability>> pending = new HashMap<>();
+    private Consumer<YearMonth> onLoaded;
+    private BiConsumer<YearMonth, Throwable> onFailed;
+
+    /**
+     * sets the providers of the cached availabilities, the async provider is used if both
+     * are set. The cache is cleared if they are not the current providers.
+     *
+     * @param executor executor of the prefetches and the async provider,
+     * or null for the picker worker thread
+     */
+    synchronized void setProviders(DateAvailabilityProvider provider,
+                                   AsyncDateAvailabilityProvider asyncProvider,
+                                   Executor executor) {
+        if (executor == null) {
+            executor = DateTimePickerExecutor.getInstance();
+        }
+        if (this.provider != provider || this.asyncProvider != asyncProvider || this.executor != executor) {
+            this.provider = provider;
+            this.asyncProvider = asyncProvider;
+            this.executor = executor;
+            availabilities.clear();
+            for (CompletableFuture<DateAvailability> future : pending.values()) {
+                future.cancel(false);
+            }
+            pending.clear();
+            failures.clear();
+            generation++;
+        }
+    }
+
+    /**
+     * sets the callback notified on the FX application thread when
+     * the async provider has loaded a month
+     */
+    void setOnLoaded(Consumer<YearMonth> onLoaded) {
+        this.onLoaded = onLoaded;
+    }
+
+    /**
+     * sets the callback notified on the FX application thread when the async
+     * provider has failed to load a month, before the month is reported as loaded
+     */
+    void setOnFailed(BiConsumer<YearMonth, Throwable> onFailed) {
+        this.onFailed = onFailed;
+    }
+
+    /**
+     * @return the availability of the month, or null if there is no provider.
+     * it's queried from the synchronous provider if it's not cached yet, the async
+     * provider starts loading it and null is returned until it's loaded.
+     */
+    DateAvailability get(YearMonth yearMonth) {
+        DateAvailabilityProvider provider;
+        int generation;
+        synchronized (this) {
+            DateAvailability availability = availabilities.get(yearMonth);
+            if (availability == null) {
+                availability = failures.get(yearMonth);
+            }
+            if (availability != null) {
+                return availability;
+            }
+            if (asyncProvider != null) {
+                load(yearMonth);
+                return null;
+            }
+            if (this.provider == null) {
+                return null;
+            }
+            provider = this.provider;
+            generation = this.generation;
+        }
+        return query(provider, generation, yearMonth);
+    }
+
+    /**
+     * forgets the failed loads, so the failed months are requested
+     * again the next time they are displayed
+     */
+    synchronized void clearFailures() {
+        failures.clear();
+    }
+
+    /**
+     * @return true if the async provider is loading the month
+     */
+    boolean isLoading(YearMonth yearMonth) {
+        return pending.containsKey(yearMonth);
+    }
+
+    /**
+     * queries the availabilities of the months before and after the
+     * specified month in the background, if they are not cached yet
+     */
+    void prefetch(YearMonth yearMonth) {
+        prefetchMonth(yearMonth.minusMonths(1));
+        prefetchMonth(yearMonth.plusMonths(1));
+    }
+
+    private void prefetchMonth(YearMonth yearMonth) {
+        DateAvailabilityProvider provider;
+        int generation;
+        synchronized (this) {
+            if (availabilities.containsKey(yearMonth) || failures.containsKey(yearMonth)) {
+                return;
+            }
+            if (asyncProvider != null) {
+                load(yearMonth);
+                return;
+            }
+            if (this.provider == null) {
+                return;
+            }
+            provider = this.provider;
+            generation = this.generation;
+        }
+        executor.execute(() -> {
+            synchronized (this) {
+                // the month may have been displayed meanwhile
+                if (generation != this.generation || availabilities.containsKey(yearMonth)) {
+                    return;
+                }
+            }
+            query(provider, generation, yearMonth);
+        });
+    }
+
+    /*
+     * the provider is called outside the lock, in the worst case a month is queried twice
+     */
+    private DateAvailability query(DateAvailabilityProvider provider, int generation, YearMonth yearMonth) {
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        DateAvailability availability = provider.getAvailability(start, end);
+        if (availability == null) {
+            // all the days are available
+            availability = new DateAvailability(start, end);
+        }
+        synchronized (this) {
+            if (generation == this.generation) {
+                availabilities.put(yearMonth, availability);
+            }
+        }
+        return availability;
+    }
+
+    /*
+     * starts loading the month with the async provider, unless it's already being loaded
+     */
+    private void load(YearMonth yearMonth) {
+        if (pending.containsKey(yearMonth)) {
+            return;
+        }
+        int generation = this.generation;
+        LocalDate start = yearMonth.atDay(1);
+        LocalDate end = yearMonth.atEndOfMonth();
+        CompletableFuture<DateAvailability> future = asyncProvider.getAvailability(start, end, executor);
+        pending.put(yearMonth, future);
+        // the result is applied in a single pulse
+        future.whenComplete((availability, ex) -> Platform.runLater(() -> {
+            synchronized (this) {
+                if (generation != this.generation || pending.get(yearMonth) != future) {
+                    // the provider has changed meanwhile
+                    return;
+                }
+                pending.remove(yearMonth);
+                if (ex != null) {
+                    // the days are shown as available rather than loading forever, but not cached
+                    failures.put(yearMonth, new DateAvailability(start, end));
+                } else {
+                    availabilities.put(yearMonth, availability != null ? availability : new DateAvailability(start, end));
+                }
+            }
+            if (ex != null && onFailed != null) {
+                onFailed.accept(yearMonth, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }
+            if (onLoaded != null) {
+                onLoaded.accept(yearMonth);
+            }
+        }));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+
+/**
+ * DateTimePickerContentPool keeps the popup contents released by the
+ * {@link JFXDateTimePicker}s with a shared popup content, and rebinds them to
+ * the next picker being shown. It must only be used on the FX application thread.
+ *
+ * @author Roman Gorovoy
+ */
+public final class DateTimePickerContentPool {
+
+    /**
+     * the default maximum number of idle contents kept by the pool
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 2;
+
+    private static int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private static final List<JFXDateTimePickerContent> idleContents = new ArrayList<>();
+
+    private DateTimePickerContentPool() {
+    }
+
+    /**
+     * @return an idle content compatible with the specified picker rebound to it,
+     * or a new content if there is none
+     */
+    static JFXDateTimePickerContent acquire(JFXDateTimePicker dateTimePicker) {
+        for (Iterator<JFXDateTimePickerContent> it = idleContents.iterator(); it.hasNext(); ) {
+            JFXDateTimePickerContent content = it.next();
+            if (content.isCompatible(dateTimePicker)) {
+                it.remove();
+                content.rebind(dateTimePicker);
+                return content;
+            }
+        }
+        return new JFXDateTimePickerContent(dateTimePicker);
+    }
+
+    /**
+     * returns the content to the pool, the least recently released
+     * content is dropped if the pool is full
+     */
+    static void release(JFXDateTimePickerContent content) {
+        if (idleContents.contains(content)) {
+            return;
+        }
+        // drop the picker and leave its popup, the content is rebound when it's acquired again
+        content.unbind();
+        if (maximumSize == 0) {
+            return;
+        }
+        if (idleContents.size() >= maximumSize) {
+            idleContents.remove(0);
+        }
+        idleContents.add(content);
+    }
+
+    public static int size() {
+        return idleContents.size();
+    }
+
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * sets the maximum number of idle contents kept by the pool
+     */
+    public static void setMaximumSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("maximum size must not be negative: " + size);
+        }
+        maximumSize = size;
+        while (idleContents.size() > maximumSize) {
+            idleContents.remove(0);
+        }
+    }
+
+    public static void clear() {
+        idleContents.clear();
+    }
+}
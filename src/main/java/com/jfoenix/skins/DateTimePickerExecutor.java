@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * single daemon thread used by the date time picker skins to compute
+ * the parts of the popup content that don't touch the scene graph
+ * away from the FX application thread.
+ *
+ * @author Roman Gorovoy
+ */
+final class DateTimePickerExecutor {
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JFXDateTimePicker-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DateTimePickerExecutor() {
+    }
+
+    static ExecutorService getInstance() {
+        return executor;
+    }
+
+    static void execute(Runnable task) {
+        executor.execute(task);
+    }
+}
@@ -21,7 +21,6 @@ package com.jfoenix.skins;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.MONTHS;
-import static java.time.temporal.ChronoUnit.WEEKS;
 import static java.time.temporal.ChronoUnit.YEARS;
 import java.awt.geom.Point2D;
 import java.time.DateTimeException;
@@ -33,19 +32,37 @@ import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Chronology;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DecimalStyle;
-import java.time.format.FormatStyle;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import com.jfoenix.controls.ChronologyBounds;
+import com.jfoenix.controls.DateAvailability;
+import com.jfoenix.controls.EpochDaySet;
 import com.jfoenix.controls.JFXButton;
 import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.controls.JFXDateTimePicker.RangeEndpoint;
+import com.jfoenix.controls.JFXDateTimePicker.SelectionMode;
+import com.jfoenix.controls.JFXDateTimePicker.TransitionMode;
 import com.jfoenix.controls.JFXListCell;
 import com.jfoenix.controls.JFXListView;
+import com.jfoenix.controls.TimeSlotAvailability;
+import com.jfoenix.controls.TimeSlotAvailabilityProvider;
+import com.jfoenix.controls.events.DateAvailabilityFailedEvent;
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener;
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener.Timing;
+import com.jfoenix.skins.MonthLayoutCache.MonthLayout;
 import com.jfoenix.svg.SVGGlyph;
 import com.jfoenix.transitions.CachedTransition;
 import javafx.animation.Animation.Status;
+import javafx.animation.AnimationTimer;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -53,23 +70,27 @@ import javafx.animation.ParallelTransition;
 import javafx.animation.Timeline;
 import javafx.animation.TranslateTransition;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.css.PseudoClass;
+import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.SnapshotParameters;
+import javafx.scene.Parent;
 import javafx.scene.control.DateCell;
 import javafx.scene.control.Label;
+import javafx.scene.control.Labeled;
 import javafx.scene.control.ListView;
-import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -95,9 +116,8 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.transform.Rotate;
+import javafx.util.Callback;
 import javafx.util.Duration;
-import javafx.util.converter.LocalTimeStringConverter;
-import javafx.util.converter.NumberStringConverter;
 
 /**
  * JFXDateTimePickerContent is the just copy of JFXDatePickerContent with partially
@@ -114,6 +134,52 @@ public class JFXDateTimePickerContent extends VBox {
 
     private static final PseudoClass selectedYear = PseudoClass.getPseudoClass("selected-year");
 
+    // clock labels, shared by all the pickers
+    private static final Color CLOCK_LABEL_COLOR = Color.rgb(0, 0, 0, 0.87);
+    private static final Color SELECTED_CLOCK_LABEL_COLOR = Color.rgb(255, 255, 255, 0.87);
+    private static final Color INNER_CLOCK_LABEL_COLOR = Color.rgb(0, 0, 0, 0.54);
+    private static final Color SELECTED_INNER_CLOCK_LABEL_COLOR = Color.rgb(255, 255, 255, 0.54);
+    private static final String[] HOUR_LABELS = new String[24];
+    private static final String[] MINUTE_LABELS = new String[60];
+
+    static {
+        for (int i = 0; i < MINUTE_LABELS.length; i++) {
+            MINUTE_LABELS[i] = (i < 10 ? "0" : "") + i;
+            if (i < HOUR_LABELS.length) {
+                HOUR_LABELS[i] = Integer.toString(i);
+            }
+        }
+    }
+
+    // backgrounds are immutable, so all day cells of all pickers can share them
+    private static final Background TRANSPARENT_BACKGROUND = new Background(new BackgroundFill(Color.TRANSPARENT,
+        CornerRadii.EMPTY,
+        Insets.EMPTY));
+    private static final Background HOVER_BACKGROUND = new Background(new BackgroundFill(Color.valueOf("#EDEDED"),
+        new CornerRadii(40),
+        Insets.EMPTY));
+
+    // day cell render state flags, used to detect cells that don't need a refresh
+    private static final int CELL_DIRTY = -1;
+    private static final int CELL_OUT_OF_MONTH = 1;
+    private static final int CELL_OUT_OF_RANGE = 1 << 1;
+    private static final int CELL_TODAY = 1 << 2;
+    private static final int CELL_SELECTED = 1 << 3;
+    private static final int CELL_UNAVAILABLE = 1 << 4;
+    private static final int CELL_HIGHLIGHTED = 1 << 5;
+    private static final int CELL_LOADING = 1 << 6;
+    private static final int CELL_RANGE_START = 1 << 7;
+    private static final int CELL_RANGE_END = 1 << 8;
+    private static final int CELL_IN_RANGE = 1 << 9;
+    private static final int CELL_RANGE_PREVIEW = 1 << 10;
+
+    // number of cell factories whose day cells are kept after a factory change
+    private static final int DAY_CELLS_CACHE_SIZE = 3;
+    // number of dates whose time slots are kept
+    private static final int TIME_SLOTS_CACHE_SIZE = 31;
+    // time slots of the dates without unavailable time slots, never modified
+    private static final TimeSlotAvailability ALL_TIME_SLOTS = new TimeSlotAvailability();
+
     /***************************************************************************
      *                                                                         *
      * Date and Time picker's content merge                                    *
@@ -136,6 +202,21 @@ public class JFXDateTimePickerContent extends VBox {
      **************************************************************************/
 
     protected JFXDateTimePicker dateTimePicker;
+    // the default color of the picker the content is currently bound to
+    private ObjectProperty<Paint> defaultColor = new SimpleObjectProperty<>(this, "defaultColor");
+    private boolean bound = true;
+    // the cell factory used to create the day cells
+    private Callback<JFXDateTimePicker, DateCell> dayCellFactory;
+    // day cells of the previously used cell factories
+    private final Map<Callback<JFXDateTimePicker, DateCell>, List<DateCell>> dayCellsCache =
+        new LinkedHashMap<Callback<JFXDateTimePicker, DateCell>, List<DateCell>>(4, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Callback<JFXDateTimePicker, DateCell>, List<DateCell>> eldest) {
+                return size() > DAY_CELLS_CACHE_SIZE;
+            }
+        };
+    private VBox dateHeaderPanel;
+    private StackPane timeHeaderPanel;
     private JFXButton backMonthButton;
     private JFXButton forwardMonthButton;
     private ObjectProperty<JFXListCell> selectedYearCell = new SimpleObjectProperty<>(null);
@@ -149,13 +230,34 @@ public class JFXDateTimePickerContent extends VBox {
     private CachedTransition showTransition;
     private CachedTransition hideTransition;
     private ParallelTransition tempImageTransition;
+    // reusable outgoing views of the month flips / view switches
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+    private Pane ghostMonthPane;
+    private final List<Label> ghostLabels = new ArrayList<>();
 
     private int daysPerWeek = 7;
     private List<DateCell> weekDaysCells = new ArrayList<>();
     private List<DateCell> weekNumberCells = new ArrayList<>();
     protected List<DateCell> dayCells = new ArrayList<>();
     private LocalDate[] dayCellDates;
+    // availabilities of the displayed months, queried from the picker provider
+    private final DateAvailabilityCache availabilityCache = new DateAvailabilityCache();
+    // the availability used by the last day cells refresh
+    private DateAvailability renderedAvailability;
+    // badge labels of the day cells, created when a day gets a badge
+    private Label[] dayCellBadges;
+    // last rendered epoch day and state of each day cell
+    private long[] dayCellEpochDays;
+    private int[] dayCellStates;
     private DateCell currentFocusedDayCell = null;
+    private Background selectedDayBackground;
+    private Background rangeDayBackground;
+    // layout used by the last day cells refresh
+    private MonthLayout dayCellsLayout;
+    // day cell under the mouse, -1 if none
+    private int hoveredDayCellIndex = -1;
+    // tentative range end under the mouse while the range end is picked
+    private long rangePreviewEpochDay = MonthLayout.NO_DAY;
 
     /***************************************************************************
      *                                                                         *
@@ -181,9 +283,53 @@ public class JFXDateTimePickerContent extends VBox {
     private StringProperty period = new SimpleStringProperty("AM");
     private ObjectProperty<Rotate> pointerRotate = new SimpleObjectProperty<>(),
         _24HourPointerRotate = new SimpleObjectProperty<>();
-    private ObjectProperty<Label> timeLabel = new SimpleObjectProperty<>();
-    private NumberStringConverter unitConverter = new NumberStringConverter("#00");
+    // time displayed by the clock, the listeners only update the previous and new selected labels
+    private IntegerProperty selectedHour = new SimpleIntegerProperty(this, "selectedHour");
+    private IntegerProperty selectedMinute = new SimpleIntegerProperty(this, "selectedMinute");
+    private Circle minuteCircle;
     private ObjectProperty<LocalTime> selectedTime = new SimpleObjectProperty<>(this, "selectedTime");
+    // clock labels by hour value (0 - 23, 1 - 12 in the 12 hour view) and by minute
+    private final Label[] hourLabels = new Label[24];
+    private final Label[] minuteLabels = new Label[60];
+    // time slots of the selected date, cached per date
+    private TimeSlotAvailabilityProvider timeSlotProvider;
+    private final Map<LocalDate, TimeSlotAvailability> timeSlotsCache =
+        new LinkedHashMap<LocalDate, TimeSlotAvailability>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, TimeSlotAvailability> eldest) {
+                return size() > TIME_SLOTS_CACHE_SIZE;
+            }
+        };
+    private LocalDate timeSlotsDate;
+    private TimeSlotAvailability timeSlots;
+    private int timeSlotsHour;
+    // time selected with the clock, committed to the picker by updateValue()
+    private int clockHour;
+    private int clockMinute;
+    private boolean clockCommitPending = false;
+    // set while goToTime() updates the clock, the period change must not commit
+    private boolean settingTime = false;
+    // commits the coalesced clock drag once per pulse
+    private final AnimationTimer clockCommitTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            if (clockCommitPending) {
+                updateValue();
+            }
+        }
+    };
+    // the key held down, its next presses are key repeats
+    private KeyCode pressedKeyCode;
+    // months paged by the coalesced key repeats, applied once per pulse
+    private int pendingMonthOffset = 0;
+    private final AnimationTimer pagingTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            flushPendingMonths();
+        }
+    };
 
     /***************************************************************************
      * <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<< *
@@ -193,57 +339,63 @@ public class JFXDateTimePickerContent extends VBox {
 
     StackPane calendarPlaceHolder = new StackPane();
 
-    private ListView<String> yearsListView = new JFXListView<String>() {
+    private ListView<Integer> yearsListView = new JFXListView<Integer>() {
         {
             this.getStyleClass().setAll("date-picker-list-view");
-            this.setCellFactory(listView -> new JFXListCell<String>() {
-                boolean mousePressed = false;
-
-                {
-                    this.getStyleClass().setAll("date-picker-list-cell");
-                    setOnMousePressed(click -> mousePressed = true);
-                    setOnMouseReleased(release -> mousePressed = false);
-                    setOnMouseClicked(click -> {
-                        String selectedItem = yearsListView.getSelectionModel().getSelectedItem();
-                        if (selectedItem != null && selectedItem.equals(getText())) {
-                            int offset = Integer.parseInt(getText()) - Integer.parseInt(
-                                selectedYearLabel.getText());
-                            forward(offset, YEARS, false, false);
-                            hideTransition.setOnFinished(finish -> {
-                                selectedYearCell.set(this);
-                                pseudoClassStateChanged(selectedYear, true);
-                                setTextFill(dateTimePicker.getDefaultColor());
-                                yearsListView.scrollTo(this.getIndex() - 2 >= 0 ? this.getIndex() - 2 : this.getIndex());
-                                hideTransition.setOnFinished(null);
-                            });
-                            hideTransition.play();
-                        }
-                    });
-                    selectedYearLabel.textProperty().addListener((o, oldVal, newVal) -> {
-                        if (!yearsListView.isVisible() && newVal.equals(getText())) {
-                            selectedYearCell.set(this);
-                        }
-                    });
-                }
+            this.setCellFactory(listView -> {
+                JFXListCell<Integer> cell = new JFXListCell<Integer>() {
+                    boolean mousePressed = false;
+
+                    {
+                        this.getStyleClass().setAll("date-picker-list-cell");
+                        setOnMousePressed(click -> mousePressed = true);
+                        setOnMouseReleased(release -> mousePressed = false);
+                        setOnMouseClicked(click -> {
+                            Integer selectedItem = yearsListView.getSelectionModel().getSelectedItem();
+                            if (selectedItem != null && selectedItem.equals(getItem())) {
+                                forward(selectedItem - displayedYear.get(), YEARS, false, false);
+                                hideTransition.setOnFinished(finish -> {
+                                    selectedYearCell.set(this);
+                                    pseudoClassStateChanged(selectedYear, true);
+                                    setTextFill(dateTimePicker.getDefaultColor());
+                                    yearsListView.scrollTo(this.getIndex() - 2 >= 0 ? this.getIndex() - 2 : this.getIndex());
+                                    hideTransition.setOnFinished(null);
+                                });
+                                hideTransition.play();
+                            }
+                        });
+                    }
 
-                @Override
-                public void updateItem(String item, boolean empty) {
-                    super.updateItem(item, empty);
-                    if (!empty) {
-                        final boolean isSelectedYear = item.equals(selectedYearLabel.getText());
-                        if (isSelectedYear) {
-                            selectedYearCell.set(this);
+                    @Override
+                    public void updateItem(Integer item, boolean empty) {
+                        super.updateItem(item, empty);
+                        if (!empty && item != null) {
+                            // the label is only materialized for the visible cells
+                            setText(formatYearNumber(item));
+                            final boolean isSelectedYear = item == displayedYear.get();
+                            if (isSelectedYear) {
+                                selectedYearCell.set(this);
+                            }
+                            pseudoClassStateChanged(selectedYear, isSelectedYear);
+                            setTextFill(isSelectedYear ? dateTimePicker.getDefaultColor() : DEFAULT_COLOR);
+                        } else {
+                            pseudoClassStateChanged(selectedYear, false);
+                            setTextFill(DEFAULT_COLOR);
                         }
-                        pseudoClassStateChanged(selectedYear, isSelectedYear);
-                        setTextFill(isSelectedYear ? dateTimePicker.getDefaultColor() : DEFAULT_COLOR);
-                    } else {
-                        pseudoClassStateChanged(selectedYear, false);
-                        setTextFill(DEFAULT_COLOR);
                     }
-                }
+                };
+                yearCells.add(cell);
+                return cell;
             });
         }
     };
+    // ISO years listed by the years list view, derived from the picker chronology
+    private YearRangeList yearRange;
+    private Chronology yearRangeChronology;
+    // the ISO year of the displayed month
+    private IntegerProperty displayedYear = new SimpleIntegerProperty(this, "displayedYear");
+    // cells created by the years list view, only the visible ones are kept by the list
+    private Set<JFXListCell<Integer>> yearCells = Collections.newSetFromMap(new WeakHashMap<>());
 
     // Date formatters
     final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMMM");
@@ -252,16 +404,35 @@ public class JFXDateTimePickerContent extends VBox {
     final DateTimeFormatter weekDayNameFormatter = DateTimeFormatter.ofPattern("ccc");
     final DateTimeFormatter dayCellFormatter = DateTimeFormatter.ofPattern("d");
 
+    // localized formatters, derived once per locale / chronology pair
+    private Locale formattersLocale;
+    private Chronology formattersChronology;
+    private DateTimeFormatter localizedMonthFormatter;
+    private DateTimeFormatter localizedYearFormatter;
+
     private ObjectProperty<YearMonth> selectedYearMonth = new SimpleObjectProperty<>(this, "selectedYearMonth");
 
-    JFXDateTimePickerContent(final JFXDateTimePicker dateTimePicker) {
-        this.dateTimePicker = dateTimePicker;
+    JFXDateTimePickerContent(final JFXDateTimePicker picker) {
+        // the handlers below read the field, the content is rebound to other pickers
+        this.dateTimePicker = picker;
+        this.defaultColor.bind(picker.defaultColorProperty());
         getStyleClass().add("date-picker-popup");
 
-        LocalDate date = dateTimePicker.getValue() == null ?
-            LocalDate.now() : dateTimePicker.getValue().toLocalDate();
+        LocalDateTime editedDateTime = getEditedDateTime();
+        LocalDate date = editedDateTime == null ? LocalDate.now() : editedDateTime.toLocalDate();
         selectedYearMonth.set(YearMonth.from(date));
         selectedYearMonth.addListener((observable, oldValue, newValue) -> updateValues());
+        // months loaded by the async availability provider, only the displayed one is rendered
+        availabilityCache.setOnLoaded(yearMonth -> {
+            if (bound && yearMonth.equals(selectedYearMonth.get())) {
+                updateDayCells();
+            }
+        });
+        availabilityCache.setOnFailed((yearMonth, ex) -> {
+            if (bound) {
+                dateTimePicker.fireEvent(new DateAvailabilityFailedEvent(ex, yearMonth));
+            }
+        });
 
         // add change listener to change the color of the selected year cell
         selectedYearCell.addListener((o, oldVal, newVal) -> {
@@ -281,11 +452,10 @@ public class JFXDateTimePickerContent extends VBox {
          * >>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>> *
          **************************************************************************/
 
-        LocalTime time = this.dateTimePicker.getValue() == null ?
-            LocalTime.now() : this.dateTimePicker.getValue().toLocalTime();
+        LocalTime time = editedDateTime == null ? LocalTime.now() : editedDateTime.toLocalTime();
         is24HourView = this.dateTimePicker.is24HourView();
-
-        this.dateTimePicker.valueProperty().addListener((o, oldVal, newVal) -> goToTime(newVal));
+        clockHour = time.getHour();
+        clockMinute = time.getMinute();
 
         /***************************************************************************
          * <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<< *
@@ -305,8 +475,10 @@ public class JFXDateTimePickerContent extends VBox {
         headerPane.setBackground(new Background(new BackgroundFill(this.dateTimePicker.getDefaultColor(),
             CornerRadii.EMPTY,
             Insets.EMPTY)));
-        this.headerPane.getChildren().add(createHeaderPane());
-        this.headerPane.getChildren().add(createHeaderPane(time, is24HourView));
+        dateHeaderPanel = createHeaderPane();
+        timeHeaderPanel = createHeaderPane(time, is24HourView);
+        this.headerPane.getChildren().add(dateHeaderPanel);
+        this.headerPane.getChildren().add(timeHeaderPanel);
         getChildren().add(this.headerPane);
 
         /***************************************************************************
@@ -342,6 +514,9 @@ public class JFXDateTimePickerContent extends VBox {
         contentGrid.setPadding(new Insets(0, 12, 12, 12));
         contentGrid.setVgap(0);
         contentGrid.setHgap(0);
+        // the grid follows the day cell under the mouse, instead of a listener pair per day cell
+        contentGrid.addEventHandler(MouseEvent.MOUSE_MOVED, event -> hoverDayCell(dayCellIndexAt(event)));
+        contentGrid.addEventHandler(MouseEvent.MOUSE_EXITED, event -> hoverDayCell(-1));
 
         // create week days cells
         createWeekDaysCells();
@@ -355,9 +530,18 @@ public class JFXDateTimePickerContent extends VBox {
         calendarStackPane.getChildren().setAll(contentHolder, createCalendarArrowsPane());
 
         // create years list view
-        for (int i = 0; i <= 200; i++) {
-            yearsListView.getItems().add(Integer.toString(1900 + i));
-        }
+        updateYearRange();
+        displayedYear.set(selectedYearMonth.get().getYear());
+        displayedYear.addListener((o, oldVal, newVal) -> {
+            if (!yearsListView.isVisible()) {
+                for (JFXListCell<Integer> cell : yearCells) {
+                    if (!cell.isEmpty() && cell.getItem() != null && cell.getItem() == newVal.intValue()) {
+                        selectedYearCell.set(cell);
+                        break;
+                    }
+                }
+            }
+        });
         yearsListView.setVisible(false);
         yearsListView.setOpacity(0);
         yearsListView.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT,
@@ -372,14 +556,30 @@ public class JFXDateTimePickerContent extends VBox {
 
         // create clock content pane
         clockPlaceHolder.getChildren().add(createContentPane(time, is24HourView));
+        selectedHour.set(time.getHour());
+        selectedMinute.set(time.getMinute());
+        highlightHourLabel(selectedHour.get(), true);
+        highlightMinuteLabel(selectedMinute.get(), true);
+        selectedHour.addListener((o, oldVal, newVal) -> {
+            highlightHourLabel(oldVal.intValue(), false);
+            highlightHourLabel(newVal.intValue(), true);
+            selectedHourLabel.setText(HOUR_LABELS[clockHourValue(newVal.intValue())]);
+        });
+        selectedMinute.addListener((o, oldVal, newVal) -> {
+            highlightMinuteLabel(oldVal.intValue(), false);
+            highlightMinuteLabel(newVal.intValue(), true);
+            selectedMinLabel.setText(MINUTE_LABELS[newVal.intValue()]);
+            minuteCircle.setVisible(newVal.intValue() % 5 != 0);
+        });
+        updateTimeSlots();
 
         // add listeners
         unit.addListener((o, oldVal, newVal) -> {
             if (newVal == TimeUnit.HOURS) {
                 angle.set(Math.toDegrees(2 * Math.PI / 12));
-                int tmp = Integer.parseInt(selectedHourLabel.getText());
+                int hour = selectedHour.get();
                 if (is24HourView) {
-                    if (tmp == 0 || tmp > 12) {
+                    if (hour == 0 || hour > 12) {
                         hoursContent.getChildren().get(0).setVisible(false);
                         hoursContent.getChildren().get(1).setVisible(true);
                     } else {
@@ -389,11 +589,9 @@ public class JFXDateTimePickerContent extends VBox {
                 }
                 pointerRotate.set(_24HourHoursPointerRotate);
                 _24HourPointerRotate.set(_24HourHoursPointerRotate);
-                timeLabel.set(selectedHourLabel);
             } else if (newVal == TimeUnit.MINUTES) {
                 angle.set(Math.toDegrees(2 * Math.PI / 60));
                 pointerRotate.set(minsPointerRotate);
-                timeLabel.set(selectedMinLabel);
             }
             swapLabelsColor(selectedHourLabel, selectedMinLabel);
             switchTimeUnit(newVal);
@@ -402,7 +600,11 @@ public class JFXDateTimePickerContent extends VBox {
         if (!is24HourView) {
             period.addListener((o, oldVal, newVal) -> {
                 swapLabelsColor(periodPMLabel, periodAMLabel);
-                updateValue();
+                // only a click on AM / PM commits, goToTime() shows the time it's given
+                if (!settingTime) {
+                    clockHour = clockHour % 12 + ("PM".equals(newVal) ? 12 : 0);
+                    updateValue();
+                }
             });
         }
 
@@ -448,36 +650,76 @@ public class JFXDateTimePickerContent extends VBox {
             if (node instanceof DateCell) {
                 currentFocusedDayCell = (DateCell) node;
             }
+            boolean pressed = event.getEventType() == KeyEvent.KEY_PRESSED;
+            boolean repeated = pressed && event.getCode() == pressedKeyCode;
+            if (pressed) {
+                pressedKeyCode = event.getCode();
+            } else if (event.getEventType() == KeyEvent.KEY_RELEASED) {
+                pressedKeyCode = null;
+                // the steps coalesced while the key was held are applied at once
+                flushPendingMonths();
+                if (clockCommitPending) {
+                    clockCommitTimer.stop();
+                    updateValue();
+                }
+            }
 
             switch (event.getCode()) {
                 case HOME:
-                    // go to the current date
-                    init();
-                    goToDate(LocalDate.now(), true);
+                    if (pressed && !currentVisibleClock) {
+                        if (event.isShortcutDown()) {
+                            // go to the current date
+                            init();
+                            goToDate(LocalDate.now(), true);
+                        } else {
+                            goToDate(selectedYearMonth.get().atDay(1), true);
+                        }
+                    }
+                    event.consume();
+                    break;
+                case END:
+                    if (pressed && !currentVisibleClock) {
+                        goToDate(selectedYearMonth.get().atEndOfMonth(), true);
+                    }
                     event.consume();
                     break;
                 case PAGE_UP:
-                    if (!backMonthButton.isDisabled()) {
-                        forward(-1, MONTHS, true, true);
+                    if (pressed && !currentVisibleClock && !backMonthButton.isDisabled()) {
+                        page(-1, event.isShortcutDown(), repeated);
                     }
                     event.consume();
                     break;
                 case PAGE_DOWN:
-                    if (!forwardMonthButton.isDisabled()) {
-                        forward(1, MONTHS, true, true);
+                    if (pressed && !currentVisibleClock && !forwardMonthButton.isDisabled()) {
+                        page(1, event.isShortcutDown(), repeated);
                     }
                     event.consume();
                     break;
+                case UP:
+                case DOWN:
+                    // the arrow keys move the day cell focus on the calendar, and step the clock
+                    if (currentVisibleClock) {
+                        if (pressed) {
+                            stepClock(event.getCode() == KeyCode.UP ? 1 : -1, repeated);
+                        }
+                        event.consume();
+                    }
+                    break;
+                case LEFT:
+                case RIGHT:
+                    if (currentVisibleClock) {
+                        if (pressed) {
+                            unit.set(event.getCode() == KeyCode.LEFT ? TimeUnit.HOURS : TimeUnit.MINUTES);
+                        }
+                        event.consume();
+                    }
+                    break;
                 case ESCAPE:
                     dateTimePicker.hide();
                     event.consume();
                     break;
                 case F4:
                 case F10:
-                case UP:
-                case DOWN:
-                case LEFT:
-                case RIGHT:
                 case TAB:
                     break;
                 default:
@@ -485,6 +727,17 @@ public class JFXDateTimePickerContent extends VBox {
             }
         });
 
+        // repaint the parts painted with the default color, it changes when the content is rebound
+        defaultColor.addListener((o, oldVal, newVal) -> {
+            Background background = new Background(new BackgroundFill(newVal, CornerRadii.EMPTY, Insets.EMPTY));
+            headerPane.setBackground(background);
+            dateHeaderPanel.setBackground(background);
+            timeHeaderPanel.setBackground(background);
+            backMonthButton.setRipplerFill(newVal);
+            forwardMonthButton.setRipplerFill(newVal);
+            invalidateDayCells();
+        });
+
         // create animation
         showTransition = new CachedTransition(yearsListView,
             new Timeline(
@@ -569,11 +822,110 @@ public class JFXDateTimePickerContent extends VBox {
         };
     }
 
+    /**
+     * @return true if the content can be rebound to the specified picker,
+     * i.e. it has the same clock layout
+     */
+    boolean isCompatible(JFXDateTimePicker dateTimePicker) {
+        return is24HourView == dateTimePicker.is24HourView();
+    }
+
+    /**
+     * binds this content to another picker, so one content instance
+     * can be shared by many pickers
+     */
+    void rebind(JFXDateTimePicker dateTimePicker) {
+        if (bound) {
+            if (this.dateTimePicker == dateTimePicker) {
+                return;
+            }
+            unbind();
+        }
+        this.dateTimePicker = dateTimePicker;
+        defaultColor.bind(dateTimePicker.defaultColorProperty());
+        bound = true;
+
+        currentFocusedDayCell = null;
+        rangePreviewEpochDay = MonthLayout.NO_DAY;
+        // day cells of the picker factory
+        rebuildDayCells();
+        // week numbers column of the new picker
+        updateContentGrid();
+        invalidateDayCells();
+        LocalDateTime dateTime = getEditedDateTime();
+        YearMonth yearMonth = dateTime != null ? YearMonth.from(dateTime) : YearMonth.now();
+        if (yearMonth.equals(selectedYearMonth.get())) {
+            updateValues();
+        } else {
+            // updates the values through the year month listener
+            selectedYearMonth.set(yearMonth);
+        }
+        goToTime(dateTime != null ? dateTime : LocalDateTime.now());
+    }
+
+    /**
+     * removes the listeners added to the current picker and drops it, so an idle
+     * pooled content doesn't keep the picker, its scene and its window reachable
+     */
+    void unbind() {
+        defaultColor.unbind();
+        bound = false;
+        clockCommitTimer.stop();
+        clockCommitPending = false;
+        pagingTimer.stop();
+        pendingMonthOffset = 0;
+        pressedKeyCode = null;
+        // the pending async availabilities are cancelled, their late results dropped
+        availabilityCache.setProviders(null, null, null);
+        finishSlideTransition();
+        if (showTransition != null) {
+            showTransition.stop();
+            hideTransition.stop();
+        }
+        // the content leaves the popup of the picker, the next popup showing it adds it again
+        if (getParent() instanceof Pane) {
+            ((Pane) getParent()).getChildren().remove(this);
+        }
+        dateTimePicker = null;
+    }
+
     private final void scrollToYear() {
-        int yearIndex = Integer.parseInt(selectedYearLabel.getText()) - 1900 - 2;
+        // the list view only holds a window of years around the displayed one
+        yearRange.recenter(displayedYear.get());
+        int yearIndex = yearRange.indexOf(displayedYear.get()) - 2;
         yearsListView.scrollTo(yearIndex >= 0 ? yearIndex : yearIndex + 2);
     }
 
+    /*
+     * lists the years of the picker chronology, only when the chronology has changed
+     */
+    private void updateYearRange() {
+        Chronology chrono = getPrimaryChronology();
+        if (yearRange != null && chrono.equals(yearRangeChronology)) {
+            return;
+        }
+        yearRange = YearRangeList.of(chrono);
+        yearRangeChronology = chrono;
+        yearsListView.setItems(yearRange);
+    }
+
+    /*
+     * formats a year number with the digits of the current locale
+     */
+    private String formatYearNumber(int year) {
+        DecimalStyle decimalStyle = DecimalStyle.of(getLocale());
+        char zeroDigit = decimalStyle.getZeroDigit();
+        String digits = Integer.toString(Math.abs(year));
+        if (zeroDigit != '0') {
+            char[] chars = digits.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) (chars[i] - '0' + zeroDigit);
+            }
+            digits = new String(chars);
+        }
+        return year < 0 ? decimalStyle.getNegativeSign() + digits : digits;
+    }
+
     @Override
     public String getUserAgentStylesheet() {
         return JFXDateTimePickerContent.class.getResource("/css/controls/jfx-date-time-picker.css").toExternalForm();
@@ -583,6 +935,20 @@ public class JFXDateTimePickerContent extends VBox {
         return selectedYearMonth;
     }
 
+    /**
+     * computes the layout tables and the labels of the specified month and its
+     * neighbours, it doesn't touch the scene graph so it can be called from any thread
+     */
+    static void prewarm(YearMonth yearMonth, Locale locale, Chronology chrono) {
+        for (int offset = -1; offset <= 1; offset++) {
+            try {
+                MonthLayoutCache.get(yearMonth.plusMonths(offset), locale, chrono);
+            } catch (DateTimeException ex) {
+                // Date is out of range.
+            }
+        }
+    }
+
     private void createWeekDaysCells() {
         // create week days names
         for (int i = 0; i < daysPerWeek; i++) {
@@ -800,37 +1166,183 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     void updateValues() {
+        DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+        // the months that failed to load are requested again when a month is displayed
+        availabilityCache.clearFailures();
         updateWeekNumberDateCells();
         updateDayCells();
         updateMonthYearPane();
+        if (metrics != null) {
+            metrics.record(Timing.UPDATE_VALUES, System.nanoTime() - start);
+        }
     }
 
     void updateWeekNumberDateCells() {
         if (dateTimePicker.isShowWeekNumbers()) {
-            final Locale locale = getLocale();
-            LocalDate firstDayOfMonth = selectedYearMonth.get().atDay(1);
+            MonthLayout layout = MonthLayoutCache.get(selectedYearMonth.get(), getLocale(), getPrimaryChronology());
             for (int i = 0; i < 6; i++) {
-                LocalDate date = firstDayOfMonth.plus(i, WEEKS);
-                String weekNumber = weekNumberFormatter.withLocale(locale)
-                    .withDecimalStyle(DecimalStyle.of(locale))
-                    .format(date);
-                weekNumberCells.get(i).setText(weekNumber);
+                weekNumberCells.get(i).setText(layout.weekNumberLabels[i]);
             }
         }
     }
 
-    private void updateDayCells() {
-        Locale locale = getLocale();
-        Chronology chrono = getPrimaryChronology();
-        // get the index of the first day of the month
-        int firstDayOfWeek = WeekFields.of(getLocale()).getFirstDayOfWeek().getValue();
-        int firstOfMonthIndex = selectedYearMonth.get().atDay(1).getDayOfWeek().getValue() - firstDayOfWeek;
-        firstOfMonthIndex += firstOfMonthIndex < 0 ? daysPerWeek : 0;
-        YearMonth currentYearMonth = selectedYearMonth.get();
+    /*
+     * derive the localized formatters only when
+     * the locale or the chronology has changed
+     */
+    private void updateFormatters(Locale locale, Chronology chrono) {
+        if (locale.equals(formattersLocale) && chrono.equals(formattersChronology)) {
+            return;
+        }
+        localizedMonthFormatter = monthFormatter.withLocale(locale).withChronology(chrono);
+        localizedYearFormatter = yearFormatter.withLocale(locale)
+            .withChronology(chrono)
+            .withDecimalStyle(DecimalStyle.of(locale));
+        formattersLocale = locale;
+        formattersChronology = chrono;
+    }
+
+    private Background getSelectedDayBackground() {
+        Paint color = dateTimePicker.getDefaultColor();
+        if (selectedDayBackground == null || !selectedDayBackground.getFills().get(0).getFill().equals(color)) {
+            selectedDayBackground = new Background(new BackgroundFill(color, new CornerRadii(40), Insets.EMPTY));
+        }
+        return selectedDayBackground;
+    }
+
+    private Background getRangeDayBackground() {
+        Paint color = dateTimePicker.getDefaultColor();
+        if (rangeDayBackground == null || !rangeDayBackground.getFills().get(0).getFill().equals(color)) {
+            Paint fill = color instanceof Color ? ((Color) color).deriveColor(0, 1, 1, 0.2) : color;
+            rangeDayBackground = new Background(new BackgroundFill(fill, CornerRadii.EMPTY, Insets.EMPTY));
+        }
+        return rangeDayBackground;
+    }
 
-        int daysInCurMonth = -1;
+    /**
+     * forces the next {@link #updateDayCells()} to re-render all day cells,
+     * even if the incremental cell refresh is enabled
+     */
+    void invalidateDayCells() {
+        Arrays.fill(dayCellStates, CELL_DIRTY);
+    }
+
+    void updateDayCells() {
+        // epoch days and labels of the cells are shared by all pickers showing the same month
+        MonthLayout layout = MonthLayoutCache.get(selectedYearMonth.get(), getLocale(), getPrimaryChronology());
+        if (layout != dayCellsLayout) {
+            // the labels of the same days change with the locale or the chronology
+            invalidateDayCells();
+            dayCellsLayout = layout;
+        }
+
+        // resolved once per refresh instead of once per cell
+        long todayEpochDay = LocalDate.now().toEpochDay();
+        LocalDateTime dateTime = dateTimePicker.getValue();
+        long selectedEpochDay = dateTime == null ? Long.MIN_VALUE : dateTime.toLocalDate().toEpochDay();
+        // the range is reduced to its epoch day bounds, each cell is tested against them
+        boolean rangeMode = dateTimePicker.getSelectionMode() == SelectionMode.RANGE;
+        long rangeStartDay = MonthLayout.NO_DAY;
+        long rangeEndDay = MonthLayout.NO_DAY;
+        boolean rangePreview = false;
+        if (rangeMode) {
+            // the value is not rendered in the range mode
+            selectedEpochDay = Long.MIN_VALUE;
+            LocalDateTime rangeStart = dateTimePicker.getRangeStart();
+            LocalDateTime rangeEnd = dateTimePicker.getRangeEnd();
+            rangeStartDay = rangeStart == null ? MonthLayout.NO_DAY : rangeStart.toLocalDate().toEpochDay();
+            rangeEndDay = rangeEnd == null ? MonthLayout.NO_DAY : rangeEnd.toLocalDate().toEpochDay();
+            if (isRangePreviewActive() && rangePreviewEpochDay != MonthLayout.NO_DAY) {
+                rangeEndDay = rangePreviewEpochDay;
+                rangePreview = true;
+            }
+        }
+        boolean rangeComplete = rangeStartDay != MonthLayout.NO_DAY && rangeEndDay != MonthLayout.NO_DAY;
+        long rangeLow = rangeComplete ? Math.min(rangeStartDay, rangeEndDay) : Long.MAX_VALUE;
+        long rangeHigh = rangeComplete ? Math.max(rangeStartDay, rangeEndDay) : Long.MIN_VALUE;
+        // the selected dates are walked along the cells from the first day of the month,
+        // which is found by one binary search
+        EpochDaySet selectedDates = null;
+        int selectedDateIndex = 0;
+        if (dateTimePicker.getSelectionMode() == SelectionMode.MULTIPLE) {
+            selectedEpochDay = Long.MIN_VALUE;
+            selectedDates = dateTimePicker.getSelectedDates();
+            selectedDateIndex = selectedDates.ceilingIndex(layout.epochDays[layout.firstOfMonthIndex]);
+        }
+        boolean incremental = dateTimePicker.isIncrementalCellRefresh();
+        DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+        // one provider query per month, the cached availability is used by all the cells
+        availabilityCache.setProviders(dateTimePicker.getDateAvailabilityProvider(),
+            dateTimePicker.getAsyncDateAvailabilityProvider(),
+            dateTimePicker.getAvailabilityExecutor());
+        DateAvailability availability = availabilityCache.get(layout.yearMonth);
+        boolean loading = availability == null && availabilityCache.isLoading(layout.yearMonth);
+        if (availability != renderedAvailability) {
+            // the slot counts and badges are not part of the cell states
+            invalidateDayCells();
+            renderedAvailability = availability;
+        }
 
         for (int i = 0; i < 6 * daysPerWeek; i++) {
+            long epochDay = layout.epochDays[i];
+            int state;
+            if (epochDay == MonthLayout.NO_DAY) {
+                // days of the previous / next month are rendered as empty disabled cells
+                state = CELL_OUT_OF_MONTH;
+            } else {
+                state = 0;
+                if (epochDay == todayEpochDay) {
+                    state |= CELL_TODAY;
+                }
+                if (epochDay == selectedEpochDay) {
+                    state |= CELL_SELECTED;
+                }
+                if (selectedDates != null) {
+                    while (selectedDateIndex < selectedDates.size() && selectedDates.get(selectedDateIndex) < epochDay) {
+                        selectedDateIndex++;
+                    }
+                    if (selectedDateIndex < selectedDates.size() && selectedDates.get(selectedDateIndex) == epochDay) {
+                        state |= CELL_SELECTED;
+                    }
+                }
+                if (rangeMode) {
+                    if (epochDay == rangeStartDay) {
+                        state |= CELL_RANGE_START;
+                    }
+                    if (epochDay == rangeEndDay) {
+                        state |= CELL_RANGE_END;
+                    }
+                    if (epochDay > rangeLow && epochDay < rangeHigh) {
+                        state |= CELL_IN_RANGE;
+                    }
+                    if (rangePreview && epochDay >= rangeLow && epochDay <= rangeHigh) {
+                        state |= CELL_RANGE_PREVIEW;
+                    }
+                }
+                if (layout.dayLabels[i] == null) {
+                    state |= CELL_OUT_OF_RANGE;
+                }
+                if (availability != null) {
+                    byte availabilityState = availability.getState(epochDay);
+                    if ((availabilityState & DateAvailability.UNAVAILABLE) != 0) {
+                        state |= CELL_UNAVAILABLE;
+                    }
+                    if ((availabilityState & DateAvailability.HIGHLIGHTED) != 0) {
+                        state |= CELL_HIGHLIGHTED;
+                    }
+                }
+                if (loading) {
+                    state |= CELL_LOADING;
+                }
+            }
+
+            if (incremental && dayCellStates[i] == state && dayCellEpochDays[i] == epochDay) {
+                continue;
+            }
+            dayCellStates[i] = state;
+            dayCellEpochDays[i] = epochDay;
+
             DateCell dayCell = dayCells.get(i);
             dayCell.getStyleClass().setAll("cell", "date-cell", "day-cell");
             dayCell.setPrefSize(40, 42);
@@ -839,67 +1351,124 @@ public class JFXDateTimePickerContent extends VBox {
             dayCell.setGraphic(null);
             dayCell.setTooltip(null);
             dayCell.setTextFill(DEFAULT_COLOR);
-            dayCell.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT,
-                CornerRadii.EMPTY,
-                Insets.EMPTY)));
+            dayCell.setBackground(TRANSPARENT_BACKGROUND);
 
-            try {
-                if (daysInCurMonth == -1) {
-                    daysInCurMonth = currentYearMonth.lengthOfMonth();
-                }
-
-                int dayIndex = i - firstOfMonthIndex + 1;
-
-                LocalDate date = currentYearMonth.atDay(dayIndex);
-                dayCellDates[i] = date;
+            if ((state & CELL_OUT_OF_MONTH) != 0) {
+                // Disable day cell if its date is out of the displayed month
+                dayCell.setText("");
+                dayCell.setDisable(true);
+                continue;
+            }
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            dayCellDates[i] = date;
 
-                // if it's today
-                if (date.equals(LocalDate.now())) {
-                    dayCell.setTextFill(this.dateTimePicker.getDefaultColor());
-                    dayCell.getStyleClass().add("today");
+            // if it's today
+            if ((state & CELL_TODAY) != 0) {
+                dayCell.setTextFill(this.dateTimePicker.getDefaultColor());
+                dayCell.getStyleClass().add("today");
+            }
+            // if it's the current selected value
+            if ((state & CELL_SELECTED) != 0) {
+                dayCell.getStyleClass().add("selected");
+                dayCell.setTextFill(Color.WHITE);
+                dayCell.setBackground(getSelectedDayBackground());
+            }
+            // if it's an endpoint or a day of the selected range
+            if ((state & (CELL_RANGE_START | CELL_RANGE_END)) != 0) {
+                dayCell.getStyleClass().add("selected");
+                if ((state & CELL_RANGE_START) != 0) {
+                    dayCell.getStyleClass().add("range-start");
                 }
-                // if it's the current selected value
-                LocalDateTime dateTime = dateTimePicker.getValue();
-                if (dateTime != null && date.equals(dateTime.toLocalDate())) {
-                    dayCell.getStyleClass().add("selected");
-                    dayCell.setTextFill(Color.WHITE);
-                    dayCell.setBackground(
-                        new Background(new BackgroundFill(this.dateTimePicker.getDefaultColor(),
-                            new CornerRadii(40),
-                            Insets.EMPTY)));
+                if ((state & CELL_RANGE_END) != 0) {
+                    dayCell.getStyleClass().add("range-end");
                 }
+                dayCell.setTextFill(Color.WHITE);
+                dayCell.setBackground(getSelectedDayBackground());
+            } else if ((state & CELL_IN_RANGE) != 0) {
+                dayCell.getStyleClass().add("in-range");
+                dayCell.setBackground(getRangeDayBackground());
+            }
+            if ((state & CELL_RANGE_PREVIEW) != 0) {
+                dayCell.getStyleClass().add("range-preview");
+            }
 
-                ChronoLocalDate cDate = chrono.date(date);
-                String cellText = dayCellFormatter.withLocale(locale)
-                    .withChronology(chrono)
-                    .withDecimalStyle(DecimalStyle.of(locale))
-                    .format(cDate);
-                dayCell.setText(cellText);
-                if (i < firstOfMonthIndex) {
-                    dayCell.getStyleClass().add("previous-month");
-                    dayCell.setText("");
-                } else if (i >= firstOfMonthIndex + daysInCurMonth) {
-                    dayCell.getStyleClass().add("next-month");
-                    dayCell.setText("");
-                }
-                // update cell item
-                dayCell.updateItem(date, false);
-            } catch (DateTimeException ex) {
+            if ((state & CELL_OUT_OF_RANGE) != 0) {
                 // Disable day cell if its date is out of range
                 dayCell.setText("");
                 dayCell.setDisable(true);
+            } else {
+                dayCell.setText(layout.dayLabels[i]);
+                // update cell item
+                if (metrics != null) {
+                    long start = System.nanoTime();
+                    dayCell.updateItem(date, false);
+                    metrics.record(Timing.DAY_CELL_UPDATE, System.nanoTime() - start);
+                } else {
+                    dayCell.updateItem(date, false);
+                }
+                if ((state & CELL_HIGHLIGHTED) != 0) {
+                    dayCell.getStyleClass().add("highlighted");
+                }
+                if ((state & CELL_UNAVAILABLE) != 0) {
+                    dayCell.getStyleClass().add("unavailable");
+                    dayCell.setDisable(true);
+                }
+                if ((state & CELL_LOADING) != 0) {
+                    dayCell.getStyleClass().add("loading");
+                    dayCell.setDisable(true);
+                }
+                if (availability != null) {
+                    updateDayCellBadge(i, dayCell, availability, epochDay);
+                }
             }
         }
+        if (availability != null || loading) {
+            // the next / previous months are ready when the user navigates to them
+            availabilityCache.prefetch(layout.yearMonth);
+        }
+    }
+
+    /*
+     * shows the badge or the slot count of the day under the day label,
+     * unless the cell factory has set a graphic
+     */
+    private void updateDayCellBadge(int index, DateCell dayCell, DateAvailability availability, long epochDay) {
+        int slotCount = availability.getSlotCount(epochDay);
+        if (slotCount == 0) {
+            dayCell.getStyleClass().add("fully-booked");
+        }
+        String badge = availability.getBadge(epochDay);
+        if (badge == null && slotCount != DateAvailability.NO_SLOT_COUNT) {
+            badge = Integer.toString(slotCount);
+        }
+        if (badge == null || dayCell.getGraphic() != null) {
+            return;
+        }
+        if (dayCellBadges == null) {
+            dayCellBadges = new Label[dayCells.size()];
+        }
+        Label badgeLabel = dayCellBadges[index];
+        if (badgeLabel == null) {
+            badgeLabel = new Label();
+            badgeLabel.getStyleClass().add("day-cell-badge");
+            badgeLabel.setMouseTransparent(true);
+            dayCellBadges[index] = badgeLabel;
+        }
+        badgeLabel.setText(badge);
+        dayCell.getStyleClass().add("has-badge");
+        dayCell.setGraphic(badgeLabel);
     }
 
     protected void updateMonthYearPane() {
         // update date labels
         YearMonth yearMonth = selectedYearMonth.get();
-        LocalDate value = dateTimePicker.getValue() == null ?
-            LocalDate.now() : dateTimePicker.getValue().toLocalDate();
+        LocalDateTime editedDateTime = getEditedDateTime();
+        LocalDate value = editedDateTime == null ? LocalDate.now() : editedDateTime.toLocalDate();
         selectedDateLabel.setText(DateTimeFormatter.ofPattern("EEE, MMM dd").format(value));
 
         selectedYearLabel.setText(formatYear(yearMonth));
+        updateYearRange();
+        displayedYear.set(yearMonth.getYear());
         monthYearLabel.setText(formatMonth(yearMonth) + " " + formatYear(yearMonth));
 
         Chronology chrono = dateTimePicker.getChronology();
@@ -909,28 +1478,25 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     private String formatMonth(YearMonth yearMonth) {
-        try {
-            Chronology chrono = getPrimaryChronology();
-            ChronoLocalDate cDate = chrono.date(yearMonth.atDay(1));
-            return monthFormatter.withLocale(getLocale()).withChronology(chrono).format(cDate);
-        } catch (DateTimeException ex) {
+        Chronology chrono = getPrimaryChronology();
+        if (!isValidDate(chrono, yearMonth.atDay(1))) {
             // Date is out of range.
             return "";
         }
+        updateFormatters(getLocale(), chrono);
+        ChronoLocalDate cDate = chrono.date(yearMonth.atDay(1));
+        return localizedMonthFormatter.format(cDate);
     }
 
     private String formatYear(YearMonth yearMonth) {
-        try {
-            Chronology chrono = getPrimaryChronology();
-            ChronoLocalDate cDate = chrono.date(yearMonth.atDay(1));
-            return yearFormatter.withLocale(getLocale())
-                .withChronology(chrono)
-                .withDecimalStyle(DecimalStyle.of(getLocale()))
-                .format(cDate);
-        } catch (DateTimeException ex) {
+        Chronology chrono = getPrimaryChronology();
+        if (!isValidDate(chrono, yearMonth.atDay(1))) {
             // Date is out of range.
             return "";
         }
+        updateFormatters(getLocale(), chrono);
+        ChronoLocalDate cDate = chrono.date(yearMonth.atDay(1));
+        return localizedYearFormatter.format(cDate);
     }
 
     protected LocalDate dayCellDate(DateCell dateCell) {
@@ -941,36 +1507,212 @@ public class JFXDateTimePickerContent extends VBox {
     protected void forward(int offset, ChronoUnit unit, boolean focusDayCell, boolean withAnimation) {
         if (withAnimation) {
             if (tempImageTransition == null || tempImageTransition.getStatus() == Status.STOPPED) {
+                DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+                long start = metrics != null ? System.nanoTime() : 0;
                 Pane monthContent = (Pane) calendarStackPane.getChildren().get(0);
-                this.getParent().setManaged(false);
-                SnapshotParameters snapShotparams = new SnapshotParameters();
-                snapShotparams.setFill(Color.TRANSPARENT);
-                WritableImage temp = monthContent.snapshot(snapShotparams,
-                    new WritableImage((int) monthContent.getWidth(),
-                        (int) monthContent.getHeight()));
-                ImageView tempImage = new ImageView(temp);
-                calendarStackPane.getChildren().add(0, tempImage);
-                TranslateTransition imageTransition = new TranslateTransition(Duration.millis(160), tempImage);
-                imageTransition.setToX(-offset * calendarStackPane.getWidth());
-                imageTransition.setOnFinished((finish) -> calendarStackPane.getChildren().remove(tempImage));
+                setParentManaged(false);
+                Node outgoing;
+                if (dateTimePicker.getTransitionMode() == TransitionMode.LIVE) {
+                    outgoing = updateGhostMonthPane(monthContent);
+                } else {
+                    outgoing = snapshotBuffer.capture(monthContent, monthContent.getWidth(), monthContent.getHeight());
+                }
+                if (metrics != null) {
+                    metrics.record(Timing.TRANSITION_SNAPSHOT, System.nanoTime() - start);
+                }
+                calendarStackPane.getChildren().add(0, outgoing);
                 monthContent.setTranslateX(offset * calendarStackPane.getWidth());
-                TranslateTransition contentTransition = new TranslateTransition(Duration.millis(160), monthContent);
-                contentTransition.setToX(0);
-
-                tempImageTransition = new ParallelTransition(imageTransition, contentTransition);
-                tempImageTransition.setOnFinished((finish) -> {
-                    calendarStackPane.getChildren().remove(tempImage);
-                    this.getParent().setManaged(true);
+                playSlideTransition(outgoing, monthContent, -offset * calendarStackPane.getWidth(), () -> {
+                    calendarStackPane.getChildren().remove(outgoing);
+                    setParentManaged(true);
+                    if (metrics != null) {
+                        metrics.record(Timing.MONTH_TRANSITION, System.nanoTime() - start);
+                    }
                 });
-                tempImageTransition.play();
             }
         }
+        goToDayCell(getPagedDayCell(), offset, unit, focusDayCell);
+    }
+
+    /*
+     * the focused day cell if it's in the displayed month, else the first day of the month
+     */
+    private DateCell getPagedDayCell() {
         YearMonth yearMonth = selectedYearMonth.get();
         DateCell dateCell = currentFocusedDayCell;
         if (dateCell == null || !(dayCellDate(dateCell).getMonth() == yearMonth.getMonth())) {
             dateCell = findDayCellOfDate(yearMonth.atDay(1));
         }
-        goToDayCell(dateCell, offset, unit, focusDayCell);
+        return dateCell;
+    }
+
+    /*
+     * pages the calendar by a month or a year. The key repeats of a held key are
+     * coalesced if the picker coalesces them: they skip the slide animation and
+     * the months they page are applied once per pulse, by a single updateValues()
+     */
+    private void page(int direction, boolean byYear, boolean repeated) {
+        if (repeated && dateTimePicker.isCoalesceKeyRepeat()) {
+            pendingMonthOffset += byYear ? direction * 12 : direction;
+            pagingTimer.start();
+            return;
+        }
+        flushPendingMonths();
+        forward(direction, byYear ? YEARS : MONTHS, true, true);
+    }
+
+    /*
+     * the repeats after the first one are not checked against the month buttons,
+     * so the summed months are clamped to the bounds of the chronology
+     */
+    private void flushPendingMonths() {
+        pagingTimer.stop();
+        if (pendingMonthOffset == 0) {
+            return;
+        }
+        long offset = pendingMonthOffset;
+        pendingMonthOffset = 0;
+        ChronologyBounds bounds = ChronologyBounds.of(dateTimePicker.getChronology());
+        if (bounds.isEmpty()) {
+            return;
+        }
+        LocalDate date = dayCellDate(getPagedDayCell());
+        LocalDate min = bounds.getMinDate();
+        LocalDate max = bounds.getMaxDate();
+        long month = prolepticMonth(date);
+        offset = Math.max(prolepticMonth(min) - month, Math.min(offset, prolepticMonth(max) - month));
+        LocalDate target = date.plusMonths(offset);
+        goToDate(target.isBefore(min) ? min : target.isAfter(max) ? max : target, true);
+    }
+
+    private static long prolepticMonth(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+
+    /*
+     * steps the hour or the minute shown by the clock to the next available one,
+     * the coalesced key repeats commit the time once per pulse like the clock drag
+     */
+    private void stepClock(int delta, boolean repeated) {
+        boolean minutes = unit.get() == TimeUnit.MINUTES;
+        int count = minutes ? 60 : 24;
+        int value = minutes ? clockMinute : clockHour;
+        for (int i = 0; i < count; i++) {
+            value = Math.floorMod(value + delta, count);
+            boolean available = minutes ? isTimeSlotAvailable(TimeUnit.MINUTES, value)
+                : timeSlots == null || timeSlots.isHourAvailable(value);
+            if (available) {
+                break;
+            }
+        }
+        if (minutes) {
+            clockMinute = value;
+        } else {
+            clockHour = value;
+        }
+        goToTime(LocalDateTime.of(LocalDate.now(), LocalTime.of(clockHour, clockMinute)));
+        if (repeated && dateTimePicker.isCoalesceKeyRepeat()) {
+            clockCommitPending = true;
+            clockCommitTimer.start();
+        } else {
+            updateValue();
+        }
+    }
+
+    /*
+     * the popup root isn't laid out during a slide, the content may have left it meanwhile
+     */
+    private void setParentManaged(boolean managed) {
+        Parent parent = getParent();
+        if (parent != null) {
+            parent.setManaged(managed);
+        }
+    }
+
+    /*
+     * jumps to the end of a running slide, so the outgoing node is removed
+     * and the popup root is laid out again
+     */
+    private void finishSlideTransition() {
+        if (tempImageTransition != null && tempImageTransition.getStatus() != Status.STOPPED) {
+            tempImageTransition.stop();
+            ((TranslateTransition) tempImageTransition.getChildren().get(1)).getNode().setTranslateX(0);
+            EventHandler<ActionEvent> onFinished = tempImageTransition.getOnFinished();
+            if (onFinished != null) {
+                onFinished.handle(null);
+            }
+        }
+    }
+
+    /*
+     * slides the outgoing node out and the incoming node in, the transitions
+     * are created once and reused by the next month flips / view switches
+     */
+    private void playSlideTransition(Node outgoing, Node incoming, double outgoingToX, Runnable onFinished) {
+        if (tempImageTransition == null) {
+            TranslateTransition outgoingTransition = new TranslateTransition(Duration.millis(160));
+            TranslateTransition incomingTransition = new TranslateTransition(Duration.millis(160));
+            incomingTransition.setToX(0);
+            tempImageTransition = new ParallelTransition(outgoingTransition, incomingTransition);
+        }
+        TranslateTransition outgoingTransition = (TranslateTransition) tempImageTransition.getChildren().get(0);
+        TranslateTransition incomingTransition = (TranslateTransition) tempImageTransition.getChildren().get(1);
+        outgoingTransition.setNode(outgoing);
+        outgoingTransition.setToX(outgoingToX);
+        incomingTransition.setNode(incoming);
+        tempImageTransition.setOnFinished(finish -> onFinished.run());
+        tempImageTransition.playFromStart();
+    }
+
+    /*
+     * copies the labels of the displayed month into a pane of plain labels,
+     * which is animated instead of a snapshot of the month
+     */
+    private Pane updateGhostMonthPane(Pane monthContent) {
+        if (ghostMonthPane == null) {
+            ghostMonthPane = new Pane();
+            ghostMonthPane.setManaged(false);
+            ghostMonthPane.setMouseTransparent(true);
+        }
+        ghostMonthPane.setTranslateX(0);
+        ghostMonthPane.resizeRelocate(monthContent.getLayoutX(), monthContent.getLayoutY(),
+            monthContent.getWidth(), monthContent.getHeight());
+
+        int count = 0;
+        count = copyToGhostLabel(monthYearLabel, monthContent, count);
+        for (DateCell cell : weekDaysCells) {
+            count = copyToGhostLabel(cell, monthContent, count);
+        }
+        for (DateCell cell : weekNumberCells) {
+            count = copyToGhostLabel(cell, monthContent, count);
+        }
+        for (DateCell cell : dayCells) {
+            count = copyToGhostLabel(cell, monthContent, count);
+        }
+        ghostMonthPane.getChildren().setAll(ghostLabels.subList(0, count));
+        return ghostMonthPane;
+    }
+
+    private int copyToGhostLabel(Labeled source, Pane monthContent, int index) {
+        if (!source.isVisible() || source.getScene() == null || source.getText() == null || source.getText().isEmpty()) {
+            return index;
+        }
+        if (index == ghostLabels.size()) {
+            Label label = new Label();
+            label.setManaged(false);
+            ghostLabels.add(label);
+        }
+        Label label = ghostLabels.get(index);
+        Bounds bounds = monthContent.sceneToLocal(source.localToScene(source.getLayoutBounds()));
+        label.setText(source.getText());
+        label.setFont(source.getFont());
+        label.setTextFill(source.getTextFill());
+        label.setAlignment(source.getAlignment());
+        label.setPadding(source.getPadding());
+        label.setBackground(source.getBackground());
+        label.setOpacity(source.getOpacity());
+        label.resizeRelocate(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        return index + 1;
     }
 
     /***************************************************************************
@@ -990,41 +1732,48 @@ public class JFXDateTimePickerContent extends VBox {
         // side moving animation, like forward() method
         if (tempImageTransition == null || tempImageTransition.getStatus() == Status.STOPPED) {
 
+            DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+            long start = metrics != null ? System.nanoTime() : 0;
+
             // get target panel from overabundant one
             Pane innerContent = (Pane) to.getChildren().get(0);
-            this.getParent().setManaged(false);
-
-            // take rendered image from replaceable panel
-            SnapshotParameters snapShotparams = new SnapshotParameters();
-            snapShotparams.setFill(Color.TRANSPARENT);
-            WritableImage temp = from.snapshot(snapShotparams,
-                new WritableImage((int) from.getWidth(),
-                    (int) from.getHeight()));
-            ImageView tempImage = new ImageView(temp);
-
-            // make replaceable invisible and replacing visible
-            from.setOpacity(0);
-            from.setVisible(false);
+            setParentManaged(false);
+
+            boolean live = dateTimePicker.getTransitionMode() == TransitionMode.LIVE;
+            Node outgoing;
+            if (live) {
+                // the replaceable panel itself slides out, it's hidden when the animation is finished
+                outgoing = from;
+            } else {
+                // take rendered image from replaceable panel
+                outgoing = snapshotBuffer.capture(from, from.getWidth(), from.getHeight());
+                from.setOpacity(0);
+                from.setVisible(false);
+                // add render to replacing container
+                to.getChildren().add(0, outgoing);
+                if (metrics != null) {
+                    metrics.record(Timing.TRANSITION_SNAPSHOT, System.nanoTime() - start);
+                }
+            }
+            // make replacing visible
             to.setOpacity(1);
             to.setVisible(true);
 
-            // add render to replacing container
-            to.getChildren().add(0, tempImage);
-
             // animate
-            TranslateTransition imageTransition = new TranslateTransition(Duration.millis(160), tempImage);
-            imageTransition.setToX(-offset * from.getWidth());
-            imageTransition.setOnFinished((finish) -> to.getChildren().remove(tempImage));
-
             innerContent.setTranslateX(offset * from.getWidth());
-            TranslateTransition contentTransition = new TranslateTransition(Duration.millis(160), innerContent);
-            contentTransition.setToX(0);
-
-            tempImageTransition = new ParallelTransition(imageTransition, contentTransition);
-            tempImageTransition.setOnFinished((finish) -> {
-                this.getParent().setManaged(true);
+            playSlideTransition(outgoing, innerContent, -offset * from.getWidth(), () -> {
+                if (live) {
+                    from.setOpacity(0);
+                    from.setVisible(false);
+                    from.setTranslateX(0);
+                } else {
+                    to.getChildren().remove(outgoing);
+                }
+                setParentManaged(true);
+                if (metrics != null) {
+                    metrics.record(Timing.VIEW_TRANSITION, System.nanoTime() - start);
+                }
             });
-            tempImageTransition.play();
         }
         // transparent transition animation
 //        if (from.isVisible()) {
@@ -1062,12 +1811,133 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     private void selectDayCell(DateCell dateCell) {
+        if (dateTimePicker.getSelectionMode() == SelectionMode.RANGE) {
+            selectRangeDay(dayCellDate(dateCell));
+            return;
+        }
+        if (dateTimePicker.getSelectionMode() == SelectionMode.MULTIPLE) {
+            // the cells are refreshed by the selected dates listener of the skin
+            dateTimePicker.getSelectedDates().toggle(dayCellDate(dateCell));
+            return;
+        }
         LocalTime time = dateTimePicker.getValue() == null ?
             LocalTime.now() : dateTimePicker.getValue().toLocalTime();
         dateTimePicker.setValue(LocalDateTime.of(dayCellDate(dateCell), time));
         dateTimePicker.hide();
     }
 
+    /*
+     * the first click selects the range start, the second one the range end,
+     * and the next one starts a new range
+     */
+    private void selectRangeDay(LocalDate date) {
+        LocalDateTime start = dateTimePicker.getRangeStart();
+        LocalDateTime end = dateTimePicker.getRangeEnd();
+        rangePreviewEpochDay = MonthLayout.NO_DAY;
+        boolean editStart = dateTimePicker.getActiveRangeEndpoint() == RangeEndpoint.START;
+        if (editStart || start == null || end != null) {
+            LocalTime time = start != null ? start.toLocalTime() : LocalTime.of(clockHour, clockMinute);
+            LocalDateTime newStart = LocalDateTime.of(date, time);
+            dateTimePicker.setRangeStart(newStart);
+            if (!editStart || (end != null && end.isBefore(newStart))) {
+                dateTimePicker.setRangeEnd(null);
+            }
+            dateTimePicker.setActiveRangeEndpoint(RangeEndpoint.END);
+        } else {
+            LocalDateTime newEnd = LocalDateTime.of(date, start.toLocalTime());
+            if (newEnd.isBefore(start)) {
+                // the range is kept in order
+                dateTimePicker.setRangeStart(newEnd);
+                dateTimePicker.setRangeEnd(start);
+            } else {
+                dateTimePicker.setRangeEnd(newEnd);
+            }
+        }
+    }
+
+    /**
+     * @return the date time edited by the popup, i.e. the value, or the active
+     * endpoint of the range in the range selection mode
+     */
+    LocalDateTime getEditedDateTime() {
+        if (dateTimePicker.getSelectionMode() != SelectionMode.RANGE) {
+            return dateTimePicker.getValue();
+        }
+        LocalDateTime end = dateTimePicker.getRangeEnd();
+        if (dateTimePicker.getActiveRangeEndpoint() == RangeEndpoint.END && end != null) {
+            return end;
+        }
+        return dateTimePicker.getRangeStart();
+    }
+
+    /*
+     * the range end follows the mouse once the range start is picked
+     */
+    private boolean isRangePreviewActive() {
+        return dateTimePicker.getSelectionMode() == SelectionMode.RANGE
+            && dateTimePicker.getActiveRangeEndpoint() == RangeEndpoint.END
+            && dateTimePicker.getRangeStart() != null
+            && dateTimePicker.getRangeEnd() == null;
+    }
+
+    /**
+     * re-renders the selection after a change of the range or of the selection mode,
+     * and moves the clock to the date time being edited
+     */
+    void updateRange() {
+        rangePreviewEpochDay = MonthLayout.NO_DAY;
+        updateDayCells();
+        updateMonthYearPane();
+        goToTime(getEditedDateTime());
+    }
+
+    /*
+     * @return the index of the enabled day cell under the mouse, -1 if none
+     */
+    private int dayCellIndexAt(MouseEvent event) {
+        Node node = event.getPickResult().getIntersectedNode();
+        while (node != null && node != contentGrid) {
+            if (node instanceof DateCell) {
+                int index = dayCells.indexOf(node);
+                return index >= 0 && !node.isDisabled() ? index : -1;
+            }
+            node = node.getParent();
+        }
+        return -1;
+    }
+
+    private void hoverDayCell(int index) {
+        if (index == hoveredDayCellIndex) {
+            return;
+        }
+        if (hoveredDayCellIndex >= 0 && hoveredDayCellIndex < dayCells.size()) {
+            DateCell previous = dayCells.get(hoveredDayCellIndex);
+            if (!isPaintedDayCell(previous)) {
+                previous.setBackground(TRANSPARENT_BACKGROUND);
+            }
+        }
+        hoveredDayCellIndex = index;
+        if (index >= 0) {
+            DateCell dayCell = dayCells.get(index);
+            if (!isPaintedDayCell(dayCell)) {
+                dayCell.setBackground(HOVER_BACKGROUND);
+            }
+        }
+        if (isRangePreviewActive()) {
+            long epochDay = index >= 0 && dayCellsLayout != null ?
+                dayCellsLayout.epochDays[index] : MonthLayout.NO_DAY;
+            if (epochDay != rangePreviewEpochDay) {
+                // only the cells entering or leaving the tentative range are re-rendered
+                rangePreviewEpochDay = epochDay;
+                updateDayCells();
+            }
+        }
+    }
+
+    private boolean isPaintedDayCell(DateCell dayCell) {
+        return dayCell.getStyleClass().contains("selected") || dayCell.getStyleClass().contains("in-range");
+    }
+
     private DateCell findDayCellOfDate(LocalDate date) {
         for (int i = 0; i < dayCellDates.length; i++) {
             if (date.equals(dayCellDates[i])) {
@@ -1107,8 +1977,8 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     void clearFocus() {
-        LocalDate focusDate = dateTimePicker.getValue() == null ?
-            LocalDate.now() : dateTimePicker.getValue().toLocalDate();
+        LocalDateTime editedDateTime = getEditedDateTime();
+        LocalDate focusDate = editedDateTime == null ? LocalDate.now() : editedDateTime.toLocalDate();
         if (YearMonth.from(focusDate).equals(selectedYearMonth.get())) {
             goToDate(focusDate, true);
         }
@@ -1119,7 +1989,7 @@ public class JFXDateTimePickerContent extends VBox {
          * >>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>>> *
          **************************************************************************/
 
-        LocalDateTime focusTime = dateTimePicker.getValue();
+        LocalDateTime focusTime = editedDateTime;
         if (focusTime == null) {
             focusTime = LocalDateTime.now();
         }
@@ -1133,6 +2003,44 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     protected void createDayCells() {
+        dayCellDates = new LocalDate[6 * daysPerWeek];
+        dayCellEpochDays = new long[6 * daysPerWeek];
+        dayCellStates = new int[6 * daysPerWeek];
+        dayCellFactory = dateTimePicker.getDayCellFactory();
+        createFactoryDayCells();
+        invalidateDayCells();
+        // position the cells into the grid
+        updateContentGrid();
+    }
+
+    /**
+     * replaces the day cells with the cells of the current day cell factory, the rest
+     * of the popup content is kept. The cells of the last used factories are cached,
+     * so switching back to a previous factory doesn't create new cells.
+     */
+    void rebuildDayCells() {
+        Callback<JFXDateTimePicker, DateCell> factory = dateTimePicker.getDayCellFactory();
+        if (factory == dayCellFactory) {
+            return;
+        }
+        dayCellsCache.put(dayCellFactory, new ArrayList<>(dayCells));
+        dayCells.clear();
+        dayCellFactory = factory;
+        List<DateCell> cachedCells = dayCellsCache.remove(factory);
+        if (cachedCells != null) {
+            dayCells.addAll(cachedCells);
+        } else {
+            createFactoryDayCells();
+        }
+        currentFocusedDayCell = null;
+        hoveredDayCellIndex = -1;
+        // the badges are created again for the new cells
+        dayCellBadges = null;
+        invalidateDayCells();
+        updateContentGrid();
+    }
+
+    private void createFactoryDayCells() {
         for (int row = 0; row < 6; row++) {
             for (int col = 0; col < daysPerWeek; col++) {
                 DateCell dayCell = createDayCell();
@@ -1145,21 +2053,6 @@ public class JFXDateTimePickerContent extends VBox {
                     selectDayCell(selectedDayCell);
                     currentFocusedDayCell = selectedDayCell;
                 });
-                // add mouse hover listener
-                dayCell.setOnMouseEntered((event) -> {
-                    if (!dayCell.getStyleClass().contains("selected")) {
-                        dayCell.setBackground(new Background(new BackgroundFill(Color.valueOf("#EDEDED"),
-                            new CornerRadii(40),
-                            Insets.EMPTY)));
-                    }
-                });
-                dayCell.setOnMouseExited((event) -> {
-                    if (!dayCell.getStyleClass().contains("selected")) {
-                        dayCell.setBackground(new Background(new BackgroundFill(Color.TRANSPARENT,
-                            CornerRadii.EMPTY,
-                            Insets.EMPTY)));
-                    }
-                });
                 dayCell.setAlignment(Pos.BASELINE_CENTER);
                 dayCell.setBorder(
                     new Border(new BorderStroke(Color.TRANSPARENT,
@@ -1170,16 +2063,19 @@ public class JFXDateTimePickerContent extends VBox {
                 dayCells.add(dayCell);
             }
         }
-        dayCellDates = new LocalDate[6 * daysPerWeek];
-        // position the cells into the grid
-        updateContentGrid();
     }
 
     private DateCell createDayCell() {
         DateCell dayCell = null;
         // call cell factory if set by the user
-        if (dateTimePicker.getDayCellFactory() != null) {
-            dayCell = dateTimePicker.getDayCellFactory().call(dateTimePicker);
+        Callback<JFXDateTimePicker, DateCell> factory = dateTimePicker.getDayCellFactory();
+        if (factory != null) {
+            DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+            long start = metrics != null ? System.nanoTime() : 0;
+            dayCell = factory.call(dateTimePicker);
+            if (metrics != null) {
+                metrics.record(Timing.DAY_CELL_FACTORY, System.nanoTime() - start);
+            }
         }
         // else create the defaul day cell
         if (dayCell == null) {
@@ -1201,18 +2097,11 @@ public class JFXDateTimePickerContent extends VBox {
     }
 
     protected boolean isValidDate(Chronology chrono, LocalDate date, int offset, ChronoUnit unit) {
-        return date != null && isValidDate(chrono, date.plus(offset, unit));
+        return ChronologyBounds.of(chrono).contains(date, offset, unit);
     }
 
     protected boolean isValidDate(Chronology chrono, LocalDate date) {
-        try {
-            if (date != null) {
-                chrono.date(date);
-            }
-            return true;
-        } catch (DateTimeException ex) {
-            return false;
-        }
+        return ChronologyBounds.of(chrono).contains(date);
     }
     
     /***************************************************************************
@@ -1226,39 +2115,15 @@ public class JFXDateTimePickerContent extends VBox {
             selectionCircle = new Circle(contentCircleRadius / 6);
         circle.setFill(Color.rgb(224, 224, 224, 0.67));
 
-        EventHandler<? super MouseEvent> mouseActionHandler = (event) -> {
-            double dx = event.getX();
-            double dy = event.getY();
-            double shift = 9;
-            double theta = Math.atan2(dy, dx);
-            int index = (int) Math.round((180 + Math.toDegrees(theta)) / angle.get()),
-                timeValue;
-            if (_24HourView) {
-                if (Point2D.distance(0, 0, dx, dy) >= (contentCircleRadius - shift - (2 * selectionCircle.getRadius()))) {
-                    hoursContent.getChildren().get(1).setVisible(false);
-                    hoursContent.getChildren().get(0).setVisible(true);
-                    pointerRotate.get().setAngle(index * angle.get());
-                    timeValue = (index + 9) % 12 == 0 ? 12 : (index + 9) % 12;
-                } else {
-                    hoursContent.getChildren().get(0).setVisible(false);
-                    hoursContent.getChildren().get(1).setVisible(true);
-                    _24HourPointerRotate.get().setAngle(index * angle.get());
-                    int tmp = ((index + 21) % 24 <= 13 ? (index + 21) % 24 + 12 : (index + 21) % 24);
-                    timeValue = tmp == 12 ? 0 : tmp;
-                }
-            } else {
-                pointerRotate.get().setAngle(index * angle.get());
-                timeValue = (index + 9) % 12 == 0 ? 12 : (index + 9) % 12;
-            }
-            if (unit.get() == TimeUnit.MINUTES) {
-                timeValue = (index + 45) % 60;
+        circle.setOnMousePressed(event -> moveClockPointer(event.getX(), event.getY(), false));
+        circle.setOnMouseDragged(event -> moveClockPointer(event.getX(), event.getY(), true));
+        circle.setOnMouseReleased(event -> {
+            if (clockCommitPending) {
+                // commit the last drag position at once
+                clockCommitTimer.stop();
+                updateValue();
             }
-            timeLabel.get().setText(unit.get() == TimeUnit.MINUTES ? unitConverter.toString(timeValue) : Integer.toString(timeValue));
-            updateValue();
-        };
-
-        circle.setOnMousePressed(mouseActionHandler);
-        circle.setOnMouseDragged(mouseActionHandler);
+        });
 
         hoursContent = createHoursContent(time, _24HourView);
         hoursContent.setMouseTransparent(true);
@@ -1277,6 +2142,65 @@ public class JFXDateTimePickerContent extends VBox {
         return contentContainer;
     }
 
+    /**
+     * moves the clock pointer to the specified position relative to the clock center and
+     * computes the selected time from its angle. The time is committed to the picker at once,
+     * or once per pulse while dragging if the picker coalesces the clock drag.
+     */
+    void moveClockPointer(double dx, double dy, boolean dragging) {
+        double shift = 9;
+        double selectionRadius = contentCircleRadius / 6;
+        double theta = Math.atan2(dy, dx);
+        int index = (int) Math.round((180 + Math.toDegrees(theta)) / angle.get()),
+            timeValue;
+        if (unit.get() == TimeUnit.MINUTES) {
+            timeValue = (index + 45) % 60;
+            if (!isTimeSlotAvailable(TimeUnit.MINUTES, timeValue)) {
+                // the pointer skips the unavailable minutes
+                return;
+            }
+            pointerRotate.get().setAngle(index * angle.get());
+            clockMinute = timeValue;
+        } else if (is24HourView) {
+            boolean outerRing = Point2D.distance(0, 0, dx, dy) >= (contentCircleRadius - shift - (2 * selectionRadius));
+            if (outerRing) {
+                timeValue = (index + 9) % 12 == 0 ? 12 : (index + 9) % 12;
+            } else {
+                int tmp = ((index + 21) % 24 <= 13 ? (index + 21) % 24 + 12 : (index + 21) % 24);
+                timeValue = tmp == 12 ? 0 : tmp;
+            }
+            if (!isTimeSlotAvailable(TimeUnit.HOURS, timeValue)) {
+                // the pointer skips the unavailable hours
+                return;
+            }
+            if (outerRing) {
+                hoursContent.getChildren().get(1).setVisible(false);
+                hoursContent.getChildren().get(0).setVisible(true);
+                pointerRotate.get().setAngle(index * angle.get());
+            } else {
+                hoursContent.getChildren().get(0).setVisible(false);
+                hoursContent.getChildren().get(1).setVisible(true);
+                _24HourPointerRotate.get().setAngle(index * angle.get());
+            }
+            clockHour = timeValue;
+        } else {
+            timeValue = (index + 9) % 12 == 0 ? 12 : (index + 9) % 12;
+            if (!isTimeSlotAvailable(TimeUnit.HOURS, timeValue)) {
+                return;
+            }
+            pointerRotate.get().setAngle(index * angle.get());
+            clockHour = timeValue % 12 + ("PM".equals(period.get()) ? 12 : 0);
+        }
+
+        if (dragging && dateTimePicker.isCoalesceClockDrag()) {
+            // only the pointer moves until the next pulse
+            clockCommitPending = true;
+            clockCommitTimer.start();
+        } else {
+            updateValue();
+        }
+    }
+
     /*
      * header panel represents the selected Time
      * we keep javaFX original style classes
@@ -1284,7 +2208,7 @@ public class JFXDateTimePickerContent extends VBox {
     protected StackPane createHeaderPane(LocalTime time, boolean _24HourView) {
         int hour = time.getHour();
 
-        selectedHourLabel.setText(String.valueOf(hour % (_24HourView ? 24 : 12) == 0 ? (_24HourView ? 0 : 12) : hour % (_24HourView ? 24 : 12)));
+        selectedHourLabel.setText(HOUR_LABELS[clockHourValue(hour)]);
         selectedHourLabel.getStyleClass().add(SPINNER_LABEL);
         selectedHourLabel.setTextFill(Color.WHITE);
         selectedHourLabel.setFont(Font.font(ROBOTO, FontWeight.BOLD, 32)); // 42
@@ -1310,9 +2234,8 @@ public class JFXDateTimePickerContent extends VBox {
         });
         selectedHourLabel.setMinWidth(49);
         selectedHourLabel.setAlignment(Pos.CENTER_RIGHT);
-        timeLabel.set(selectedHourLabel);
 
-        selectedMinLabel.setText(String.valueOf(unitConverter.toString(time.getMinute())));
+        selectedMinLabel.setText(MINUTE_LABELS[time.getMinute()]);
         selectedMinLabel.getStyleClass().add(SPINNER_LABEL);
         selectedMinLabel.setTextFill(fadedColor);
         selectedMinLabel.setFont(Font.font(ROBOTO, FontWeight.BOLD, 32)); // 42
@@ -1392,12 +2315,12 @@ public class JFXDateTimePickerContent extends VBox {
         StackPane hoursPointer = new StackPane(), _24HoursPointer = new StackPane();
         Circle selectionCircle = new Circle(contentCircleRadius / 6),
             _24HourSelectionCircle = new Circle(contentCircleRadius / 6);
-        selectionCircle.fillProperty().bind(dateTimePicker.defaultColorProperty());
-        _24HourSelectionCircle.fillProperty().bind(dateTimePicker.defaultColorProperty());
+        selectionCircle.fillProperty().bind(defaultColor);
+        _24HourSelectionCircle.fillProperty().bind(defaultColor);
 
         double shift = 9, _24HourShift = 27.5;
         Line line = new Line(shift, 0, contentCircleRadius, 0);
-        line.fillProperty().bind(dateTimePicker.defaultColorProperty());
+        line.fillProperty().bind(defaultColor);
         line.strokeProperty().bind(line.fillProperty());
         line.setStrokeWidth(1.5);
         hoursPointer.getChildren().addAll(line, selectionCircle);
@@ -1412,7 +2335,7 @@ public class JFXDateTimePickerContent extends VBox {
         pointerGroup.setVisible(!is24HourView || (time.getHour() > 0 && time.getHour() < 13));
 
         Line _24HourLine = new Line(shift + _24HourShift, 0, contentCircleRadius, 0);
-        _24HourLine.fillProperty().bind(dateTimePicker.defaultColorProperty());
+        _24HourLine.fillProperty().bind(defaultColor);
         _24HourLine.strokeProperty().bind(_24HourLine.fillProperty());
         _24HourLine.setStrokeWidth(1.5);
         _24HoursPointer.getChildren().addAll(_24HourLine, _24HourSelectionCircle);
@@ -1433,19 +2356,13 @@ public class JFXDateTimePickerContent extends VBox {
         for (int i = 0; i < 12; i++) {
             // create the label and its container
             int val = (i + 3) % 12 == 0 ? 12 : (i + 3) % 12;
-            Label label = new Label(Integer.toString(val));
+            Label label = new Label(HOUR_LABELS[val]);
             label.setFont(Font.font(ROBOTO, FontWeight.BOLD, 12));
+            hourLabels[val] = label;
+            label.getStyleClass().add("clock-label");
 
-            // init color
-            label.setTextFill(((val == time.getHour() % 12 || (val == 12 && time.getHour() % 12 == 0)) && !is24HourView) ?
-                Color.rgb(255, 255, 255, 0.87) : Color.rgb(0, 0, 0, 0.87));
-            selectedHourLabel.textProperty().addListener((o, oldVal, newVal) -> {
-                if (Integer.parseInt(newVal) == Integer.parseInt(label.getText())) {
-                    label.setTextFill(Color.rgb(255, 255, 255, 0.87));
-                } else {
-                    label.setTextFill(Color.rgb(0, 0, 0, 0.87));
-                }
-            });
+            // the selected hour label is highlighted by the selected hour listener
+            label.setTextFill(CLOCK_LABEL_COLOR);
 
             // create label container
             StackPane labelContainer = new StackPane();
@@ -1477,19 +2394,12 @@ public class JFXDateTimePickerContent extends VBox {
                 // create the label and its container
                 int val = (i + 3) % 12 == 0 ? 12 : (i + 3) % 12;
                 val += (val == 12 ? -12 : 12);
-                Label label = new Label(Integer.toString(val) + (val == 0 ? "0" : ""));
+                Label label = new Label(val == 0 ? MINUTE_LABELS[0] : HOUR_LABELS[val]);
                 label.setFont(Font.font(ROBOTO, FontWeight.NORMAL, 10));
+                hourLabels[val] = label;
+                label.getStyleClass().add("clock-label");
 
-                // init color
-                label.setTextFill((val == time.getHour() % 24 || (val == 0 && time.getHour() % 24 == 0) && is24HourView) ?
-                    Color.rgb(255, 255, 255, 0.54) : Color.rgb(0, 0, 0, 0.54));
-                selectedHourLabel.textProperty().addListener((o, oldVal, newVal) -> {
-                    if (Integer.parseInt(newVal) == Integer.parseInt(label.getText())) {
-                        label.setTextFill(Color.rgb(255, 255, 255, 0.54));
-                    } else {
-                        label.setTextFill(Color.rgb(0, 0, 0, 0.54));
-                    }
-                });
+                label.setTextFill(INNER_CLOCK_LABEL_COLOR);
 
                 // create label container
                 StackPane labelContainer = new StackPane();
@@ -1527,23 +2437,18 @@ public class JFXDateTimePickerContent extends VBox {
         // create minutes content
         StackPane minsPointer = new StackPane();
         Circle selectionCircle = new Circle(contentCircleRadius / 6);
-        selectionCircle.fillProperty().bind(dateTimePicker.defaultColorProperty());
+        selectionCircle.fillProperty().bind(defaultColor);
 
         Circle minCircle = new Circle(selectionCircle.getRadius() / 8);
         minCircle.setFill(Color.rgb(255, 255, 255, 0.87));
         minCircle.setTranslateX(selectionCircle.getRadius() - minCircle.getRadius());
+        // shown by the selected minute listener for the minutes without label
         minCircle.setVisible(time.getMinute() % 5 != 0);
-        selectedMinLabel.textProperty().addListener((o, oldVal, newVal) -> {
-            if (Integer.parseInt(newVal) % 5 == 0) {
-                minCircle.setVisible(false);
-            } else {
-                minCircle.setVisible(true);
-            }
-        });
+        minuteCircle = minCircle;
 
         double shift = 9;
         Line line = new Line(shift, 0, contentCircleRadius, 0);
-        line.fillProperty().bind(dateTimePicker.defaultColorProperty());
+        line.fillProperty().bind(defaultColor);
         line.strokeProperty().bind(line.fillProperty());
         line.setStrokeWidth(1.5);
         minsPointer.getChildren().addAll(line, selectionCircle, minCircle);
@@ -1563,18 +2468,11 @@ public class JFXDateTimePickerContent extends VBox {
         for (int i = 0; i < 12; i++) {
             StackPane labelContainer = new StackPane();
             int val = ((i + 3) * 5) % 60;
-            Label label = new Label(String.valueOf(unitConverter.toString(val)));
+            Label label = new Label(MINUTE_LABELS[val]);
             label.setFont(Font.font(ROBOTO, FontWeight.BOLD, 12));
-            // init label color
-            label.setTextFill(val == time.getMinute() ?
-                Color.rgb(255, 255, 255, 0.87) : Color.rgb(0, 0, 0, 0.87));
-            selectedMinLabel.textProperty().addListener((o, oldVal, newVal) -> {
-                if (Integer.parseInt(newVal) == Integer.parseInt(label.getText())) {
-                    label.setTextFill(Color.rgb(255, 255, 255, 0.87));
-                } else {
-                    label.setTextFill(Color.rgb(0, 0, 0, 0.87));
-                }
-            });
+            minuteLabels[val] = label;
+            label.getStyleClass().add("clock-label");
+            label.setTextFill(CLOCK_LABEL_COLOR);
 
             labelContainer.getChildren().add(label);
             double labelSize = (selectionCircle.getRadius() / Math.sqrt(2)) * 2;
@@ -1631,35 +2529,150 @@ public class JFXDateTimePickerContent extends VBox {
         }
     }
 
+    /**
+     * commits the time selected with the clock to the picker
+     */
     void updateValue() {
-        LocalTime localTime;
+        clockCommitPending = false;
+        if (dateTimePicker.getSelectionMode() == SelectionMode.RANGE) {
+            updateRangeTime();
+            return;
+        }
         LocalDate localDate = this.dateTimePicker.getValue() == null ?
             LocalDate.now() : this.dateTimePicker.getValue().toLocalDate();
-        
-        if (is24HourView) {
-            LocalTimeStringConverter localTimeStringConverter =
-                new LocalTimeStringConverter(FormatStyle.SHORT, Locale.GERMAN);
-            localTime = localTimeStringConverter.fromString(selectedHourLabel.getText() + ":" + selectedMinLabel.getText());
+        dateTimePicker.setValue(LocalDateTime.of(localDate, LocalTime.of(clockHour, clockMinute)));
+    }
+
+    /*
+     * commits the time selected with the clock to the active range endpoint,
+     * the other endpoint follows it if the range would be reversed
+     */
+    private void updateRangeTime() {
+        LocalDateTime start = dateTimePicker.getRangeStart();
+        LocalDateTime end = dateTimePicker.getRangeEnd();
+        LocalTime time = LocalTime.of(clockHour, clockMinute);
+        if (dateTimePicker.getActiveRangeEndpoint() == RangeEndpoint.END && start != null) {
+            LocalDateTime newEnd = LocalDateTime.of(end != null ? end.toLocalDate() : start.toLocalDate(), time);
+            if (newEnd.isBefore(start)) {
+                dateTimePicker.setRangeStart(newEnd);
+            }
+            dateTimePicker.setRangeEnd(newEnd);
         } else {
-            localTime = LocalTime.parse(selectedHourLabel.getText() + ":" + selectedMinLabel.getText() + " " + period.get(), DateTimeFormatter.ofPattern("h:mm a").withLocale(Locale.ENGLISH));
+            LocalDateTime newStart = LocalDateTime.of(start != null ? start.toLocalDate() : LocalDate.now(), time);
+            if (end != null && end.isBefore(newStart)) {
+                dateTimePicker.setRangeEnd(newStart);
+            }
+            dateTimePicker.setRangeStart(newStart);
         }
-        dateTimePicker.setValue(LocalDateTime.of(localDate, localTime));
     }
 
-    private void goToTime(LocalDateTime date) {
+    void goToTime(LocalDateTime date) {
         if (date != null) {
             LocalTime time = date.toLocalTime();
             int hour = time.getHour();
-            selectedHourLabel.setText(Integer.toString(hour % (is24HourView ? 24 : 12) == 0 ?
-                (is24HourView ? 0 : 12) : hour % (is24HourView ? 24 : 12)));
-            selectedMinLabel.setText(unitConverter.toString(time.getMinute()));
+            clockHour = hour;
+            clockMinute = time.getMinute();
+            // the labels are updated by the selected hour / minute listeners
+            selectedHour.set(hour);
+            selectedMinute.set(time.getMinute());
             if (!is24HourView) {
-                period.set(hour < 12 ? "AM" : "PM");
+                settingTime = true;
+                try {
+                    period.set(hour < 12 ? "AM" : "PM");
+                } finally {
+                    settingTime = false;
+                }
             }
             minsPointerRotate.setAngle(180 + (time.getMinute() + 45) % 60 * Math.toDegrees(2 * Math.PI / 60));
             hoursPointerRotate.setAngle(180 + Math.toDegrees(2 * (hour - 3) * Math.PI / 12));
             _24HourHoursPointerRotate.setAngle(180 + Math.toDegrees(2 * (hour - 3) * Math.PI / 12));
+            updateTimeSlots();
+        }
+    }
+
+    /*
+     * @return the value shown by the clock for the hour of the day
+     */
+    private int clockHourValue(int hour) {
+        if (is24HourView) {
+            return hour;
+        }
+        return hour % 12 == 0 ? 12 : hour % 12;
+    }
+
+    private void highlightHourLabel(int hour, boolean highlighted) {
+        Label label = hourLabels[clockHourValue(hour)];
+        if (label == null) {
+            return;
+        }
+        if (is24HourView && (hour == 0 || hour > 12)) {
+            label.setTextFill(highlighted ? SELECTED_INNER_CLOCK_LABEL_COLOR : INNER_CLOCK_LABEL_COLOR);
+        } else {
+            label.setTextFill(highlighted ? SELECTED_CLOCK_LABEL_COLOR : CLOCK_LABEL_COLOR);
+        }
+    }
+
+    private void highlightMinuteLabel(int minute, boolean highlighted) {
+        Label label = minuteLabels[minute];
+        if (label != null) {
+            label.setTextFill(highlighted ? SELECTED_CLOCK_LABEL_COLOR : CLOCK_LABEL_COLOR);
+        }
+    }
+
+    /**
+     * resolves the time slots of the selected date, asking the provider only for
+     * the dates that are not cached, and greys out the unavailable clock labels
+     */
+    void updateTimeSlots() {
+        TimeSlotAvailabilityProvider provider = dateTimePicker.getTimeSlotAvailabilityProvider();
+        if (provider != timeSlotProvider) {
+            timeSlotProvider = provider;
+            timeSlotsCache.clear();
+            timeSlotsDate = null;
+        }
+        LocalDateTime dateTime = getEditedDateTime();
+        LocalDate date = dateTime == null ? LocalDate.now() : dateTime.toLocalDate();
+        timeSlotsHour = dateTime == null ? LocalTime.now().getHour() : dateTime.getHour();
+        if (!date.equals(timeSlotsDate)) {
+            timeSlotsDate = date;
+            if (provider == null) {
+                timeSlots = null;
+            } else {
+                timeSlots = timeSlotsCache.get(date);
+                if (timeSlots == null) {
+                    timeSlots = provider.getTimeSlotAvailability(date);
+                    if (timeSlots == null) {
+                        timeSlots = ALL_TIME_SLOTS;
+                    }
+                    timeSlotsCache.put(date, timeSlots);
+                }
+            }
+        }
+
+        for (int value = 0; value < hourLabels.length; value++) {
+            if (hourLabels[value] != null) {
+                hourLabels[value].setDisable(!isTimeSlotAvailable(TimeUnit.HOURS, value));
+            }
+        }
+        for (int minute = 0; minute < minuteLabels.length; minute++) {
+            if (minuteLabels[minute] != null) {
+                minuteLabels[minute].setDisable(timeSlots != null && !timeSlots.isMinuteAvailable(timeSlotsHour, minute));
+            }
+        }
+    }
+
+    /*
+     * tests the precomputed time slots, the value is an hour as shown by the clock or a minute
+     */
+    private boolean isTimeSlotAvailable(TimeUnit unit, int value) {
+        if (timeSlots == null) {
+            return true;
+        }
+        if (unit == TimeUnit.MINUTES) {
+            return timeSlots.isMinuteAvailable(timeSlotsHour, value);
         }
+        int hour = is24HourView ? value : value % 12 + ("PM".equals(period.get()) ? 12 : 0);
+        return timeSlots.isHourAvailable(hour);
     }
     
     /***************************************************************************
@@ -19,25 +19,46 @@
 
 package com.jfoenix.skins;
 
-import java.lang.reflect.Field;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.YearMonth;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Objects;
 
 import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.controls.JFXDateTimePicker.SelectionMode;
 import com.jfoenix.controls.JFXDialog;
 import com.jfoenix.controls.JFXDialog.DialogTransition;
 import com.jfoenix.controls.JFXTextField;
-import com.jfoenix.controls.behavior.JFXDateTimePickerBehavior;
+import com.jfoenix.controls.SegmentedDateTimeLayout;
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener;
+import com.jfoenix.controls.metrics.DateTimePickerMetricsListener.Timing;
 import com.jfoenix.svg.SVGGlyph;
-import com.sun.javafx.binding.ExpressionHelper;
-import com.sun.javafx.scene.control.skin.ComboBoxPopupControl;
 
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
+import javafx.css.PseudoClass;
+import javafx.css.Styleable;
 import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.AccessibleAttribute;
 import javafx.scene.Node;
+import javafx.scene.control.PopupControl;
+import javafx.scene.control.Skin;
+import javafx.scene.control.Skinnable;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.stage.WindowEvent;
 import javafx.util.StringConverter;
 
 /**
@@ -45,12 +66,18 @@ import javafx.util.StringConverter;
  * <p>JFXDateTimePickerSkin is the just copy of {@link JFXDatePickerSkin}
  * with changed data types to {@link LocalDateTime} and variable's names,
  * and modified SVG glyph.</p>
+ * <p>Unlike it, the skin owns its popup and its editor instead of extending
+ * ComboBoxPopupControl, whose focus listener expects a ComboBox text field,
+ * so nothing has to be removed from the picker by reflection.</p>
+ * <p>The JavaFX 8 / OpenJFX 17 specific parts are kept in {@link DateTimePickerSkinBase}.</p>
  * 
  * @author Roman Gorovoy
  * @version 1.0
  * @since 2019-04-01
  */
-public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
+public class JFXDateTimePickerSkin extends DateTimePickerSkinBase {
+
+    private static final PseudoClass CONTAINS_FOCUS_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("contains-focus");
 
     /**
      * TODO:
@@ -60,42 +87,60 @@ public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
 
     // displayNode is the same as editorNode
     private TextField displayNode;
+    private TextField textField;
+    private SegmentedEditor segmentedEditor;
     private JFXDateTimePickerContent content;
 
+    protected PopupControl popup;
+    private boolean popupNeedsReconfiguring = true;
+
+    // the listeners added to the picker, removed when the skin is disposed
+    private final ChangeListener<Boolean> focusListener = (obj, oldVal, newVal) -> {
+        if (getEditor() != null && !newVal) {
+            setTextFromTextFieldIntoComboBoxValue();
+        }
+    };
+    private final EventHandler<KeyEvent> keyFilter = this::filterKeyEvent;
+    private final InvalidationListener layoutPosListener = observable -> {
+        popupNeedsReconfiguring = true;
+        reconfigurePopup();
+    };
+    private final InvalidationListener selectedDatesListener = observable -> {
+        // one refresh per change of the set, whatever the number of dates added or removed
+        if (content != null && dateTimePicker.getSelectionMode() == SelectionMode.MULTIPLE) {
+            content.updateDayCells();
+        }
+    };
+    private final InvalidationListener sceneListener = observable -> {
+        // the popup is closed when the picker is removed from its scene
+        if (dateTimePicker.getScene() == null) {
+            hide();
+        }
+    };
+
     private JFXDialog dialog;
 
+    // the value last propagated to the popup content, and the refresh counters
+    private LocalDateTime lastValue;
+    private long calendarRefreshCount = 0;
+    private long skippedCalendarRefreshCount = 0;
+    private long clockRefreshCount = 0;
+    private long skippedClockRefreshCount = 0;
+
     public JFXDateTimePickerSkin(JFXDateTimePicker dateTimePicker) {
-        super(dateTimePicker, new JFXDateTimePickerBehavior(dateTimePicker));
+        super(dateTimePicker);
         this.dateTimePicker = dateTimePicker;
-        try {
-            Field helper = dateTimePicker.focusedProperty().getClass().getSuperclass()
-                .getDeclaredField("helper");
-            helper.setAccessible(true);
-            ExpressionHelper value = (ExpressionHelper) helper.get(dateTimePicker.focusedProperty());
-            Field changeListenersField = value.getClass().getDeclaredField("changeListeners");
-            changeListenersField.setAccessible(true);
-            ChangeListener[] changeListeners = (ChangeListener[]) changeListenersField.get(value);
-            // remove parent focus listener to prevent editor class cast exception
-            for (int i = changeListeners.length - 1; i > 0; i--) {
-                if (changeListeners[i] != null && changeListeners[i].getClass().getName().contains("ComboBoxPopupControl")) {
-                    dateTimePicker.focusedProperty().removeListener(changeListeners[i]);
-                    break;
-                }
-            }
-        } catch (IllegalAccessException e) {
-            e.printStackTrace();
-        } catch (NoSuchFieldException e) {
-            e.printStackTrace();
-        }
-        // add focus listener on editor node
-        dateTimePicker.focusedProperty().addListener((obj, oldVal, newVal) -> {
-            if (getEditor() != null && !newVal) {
-                setTextFromTextFieldIntoComboBoxValue();
-            }
-        });
+        this.lastValue = dateTimePicker.getValue();
+        // the skin owns the editor, so the picker focus doesn't fake the focus of a
+        // ComboBox text field, and the text is committed when the focus is lost
+        getEditableInputNode();
+        updateSegmentedEditor();
+        dateTimePicker.focusedProperty().addListener(focusListener);
+        // the keys typed while the picker has the focus are forwarded to the editor
+        dateTimePicker.addEventFilter(KeyEvent.ANY, keyFilter);
 
         // create calendar-o-clock button
-        arrow = new SVGGlyph(0,
+        SVGGlyph arrow = new SVGGlyph(0,
               "calendar-o-clock",
               "m832 575v256q0 8-5 13-5 5-13 5H632q-8 0-13-5-5-5-5-13v-36q0-8 5-13 5-5"
             + " 13-5H760V576q0-8 5-13 5-5 13-5h36q8 0 13 5 5 5 5 13z"
@@ -111,32 +156,251 @@ public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
             + "M127 575V 703H 255V 575Z"
             + "m0 192V 896H 255V 768Z"
             , null);
-        ((SVGGlyph) arrow).setFill(dateTimePicker.getDefaultColor());
-        ((SVGGlyph) arrow).setSize(20, 20);
-        arrowButton.getChildren().setAll(arrow);
+        arrow.setFill(dateTimePicker.getDefaultColor());
+        arrow.setSize(20, 20);
+        setArrow(arrow);
 
         ((JFXTextField) getEditor()).setFocusColor(dateTimePicker.getDefaultColor());
 
         registerChangeListener(dateTimePicker.converterProperty(), "CONVERTER");
         registerChangeListener(dateTimePicker.dayCellFactoryProperty(), "DAY_CELL_FACTORY");
+        registerChangeListener(dateTimePicker.dateAvailabilityProviderProperty(), "DATE_AVAILABILITY_PROVIDER");
+        registerChangeListener(dateTimePicker.asyncDateAvailabilityProviderProperty(), "DATE_AVAILABILITY_PROVIDER");
+        registerChangeListener(dateTimePicker.availabilityExecutorProperty(), "DATE_AVAILABILITY_PROVIDER");
+        registerChangeListener(dateTimePicker.timeSlotAvailabilityProviderProperty(), "TIME_SLOT_AVAILABILITY_PROVIDER");
         registerChangeListener(dateTimePicker.showWeekNumbersProperty(), "SHOW_WEEK_NUMBERS");
         registerChangeListener(dateTimePicker.valueProperty(), "VALUE");
         registerChangeListener(dateTimePicker.defaultColorProperty(), "DEFAULT_COLOR");
+        registerChangeListener(dateTimePicker.prewarmPopupProperty(), "PREWARM_POPUP");
+        registerChangeListener(dateTimePicker.segmentedEditingProperty(), "SEGMENTED_EDITING");
+        registerChangeListener(dateTimePicker.selectionModeProperty(), "SELECTION");
+        registerChangeListener(dateTimePicker.rangeStartProperty(), "SELECTION");
+        registerChangeListener(dateTimePicker.rangeEndProperty(), "SELECTION");
+        registerChangeListener(dateTimePicker.activeRangeEndpointProperty(), "SELECTION");
+        dateTimePicker.getSelectedDates().addListener(selectedDatesListener);
+
+        if (dateTimePicker.isPrewarmPopup()) {
+            prewarmPopupContent();
+        }
+    }
+
+    /*
+     * computes the month layouts off the FX thread, then builds the popup content
+     * in a later pulse if the popup hasn't been shown meanwhile, one content per pulse
+     * whatever the number of pre-warmed pickers
+     */
+    private void prewarmPopupContent() {
+        LocalDateTime dateTime = dateTimePicker.getValue();
+        YearMonth yearMonth = dateTime != null ? YearMonth.from(dateTime) : YearMonth.now();
+        // the same locale used by the popup content
+        Locale locale = Locale.getDefault();
+        Chronology chrono = dateTimePicker.getChronology();
+        DateTimePickerExecutor.execute(() -> {
+            JFXDateTimePickerContent.prewarm(yearMonth, locale, chrono);
+            Platform.runLater(() -> PrewarmQueue.add(() -> {
+                if (content == null && dateTimePicker.getSkin() == this) {
+                    getPopupContent();
+                    if (isPopupContentShared() && !dateTimePicker.isShowing()) {
+                        // the pre-warmed content waits in the pool
+                        DateTimePickerContentPool.release(content);
+                        content = null;
+                    }
+                }
+            }));
+        });
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Popup                                                                   *
+     *                                                                         *
+     **************************************************************************/
+
+    protected PopupControl getPopup() {
+        if (popup == null) {
+            createPopup();
+        }
+        return popup;
+    }
+
+    private void createPopup() {
+        popup = new PopupControl() {
+            @Override
+            public Styleable getStyleableParent() {
+                return dateTimePicker;
+            }
+
+            {
+                setSkin(new Skin<Skinnable>() {
+                    @Override
+                    public Skinnable getSkinnable() {
+                        return dateTimePicker;
+                    }
+
+                    @Override
+                    public Node getNode() {
+                        return getPopupContent();
+                    }
+
+                    @Override
+                    public void dispose() {
+                    }
+                });
+            }
+        };
+        popup.getStyleClass().add("combo-box-popup");
+        popup.setConsumeAutoHidingEvents(false);
+        popup.setAutoHide(true);
+        popup.setAutoFix(true);
+        popup.setHideOnEscape(true);
+        popup.setOnAutoHide(event -> onPopupAutoHide(popup));
+        popup.addEventHandler(MouseEvent.MOUSE_CLICKED, click -> onPopupAutoHide(popup));
+        popup.addEventHandler(WindowEvent.WINDOW_HIDDEN,
+            event -> dateTimePicker.notifyAccessibleAttributeChanged(AccessibleAttribute.FOCUS_NODE));
+
+        // the popup follows the picker
+        dateTimePicker.layoutXProperty().addListener(layoutPosListener);
+        dateTimePicker.layoutYProperty().addListener(layoutPosListener);
+        dateTimePicker.widthProperty().addListener(layoutPosListener);
+        dateTimePicker.heightProperty().addListener(layoutPosListener);
+        dateTimePicker.sceneProperty().addListener(sceneListener);
+    }
+
+    private void positionAndShowPopup() {
+        PopupControl popupControl = getPopup();
+        popupControl.getScene().setNodeOrientation(dateTimePicker.getEffectiveNodeOrientation());
+        Node popupContent = getPopupContent();
+        sizePopup();
+        Point2D position = getPrefPopupPosition();
+        popupNeedsReconfiguring = true;
+        reconfigurePopup();
+        popupControl.show(dateTimePicker.getScene().getWindow(), snapPosition(position.getX()), snapPosition(position.getY()));
+        popupContent.requestFocus();
+        // sized again once the popup is shown
+        sizePopup();
+    }
+
+    /*
+     * the popup is centered under the picker, the popup moves it back
+     * into the screen if needed
+     */
+    private Point2D getPrefPopupPosition() {
+        Bounds bounds = dateTimePicker.localToScreen(dateTimePicker.getLayoutBounds());
+        if (bounds == null) {
+            return new Point2D(0, 0);
+        }
+        Node popupContent = getPopupContent();
+        double popupWidth = popupContent.prefWidth(-1);
+        return new Point2D(bounds.getMinX() + (bounds.getWidth() - popupWidth) / 2, bounds.getMaxY());
+    }
+
+    private void sizePopup() {
+        Node popupContent = getPopupContent();
+        if (popupContent instanceof Region) {
+            Region region = (Region) popupContent;
+            double prefHeight = snapSize(region.prefHeight(0));
+            double minHeight = snapSize(region.minHeight(0));
+            double maxHeight = snapSize(region.maxHeight(0));
+            double h = snapSize(Math.min(Math.max(prefHeight, minHeight), Math.max(minHeight, maxHeight)));
+
+            double prefWidth = snapSize(region.prefWidth(h));
+            double minWidth = snapSize(region.minWidth(h));
+            double maxWidth = snapSize(region.maxWidth(h));
+            double w = snapSize(Math.min(Math.max(prefWidth, minWidth), Math.max(minWidth, maxWidth)));
+
+            popupContent.resize(w, h);
+        } else {
+            popupContent.autosize();
+        }
+    }
+
+    private void reconfigurePopup() {
+        if (popup == null || !popup.isShowing() || !popupNeedsReconfiguring) {
+            return;
+        }
+        popupNeedsReconfiguring = false;
+
+        Point2D position = getPrefPopupPosition();
+        Node popupContent = getPopupContent();
+        double minWidth = popupContent.prefWidth(Region.USE_COMPUTED_SIZE);
+        double minHeight = popupContent.prefHeight(Region.USE_COMPUTED_SIZE);
+        if (position.getX() > -1) {
+            popup.setAnchorX(position.getX());
+        }
+        if (position.getY() > -1) {
+            popup.setAnchorY(position.getY());
+        }
+        if (minWidth > -1) {
+            popup.setMinWidth(minWidth);
+        }
+        if (minHeight > -1) {
+            popup.setMinHeight(minHeight);
+        }
+
+        Bounds bounds = popupContent.getLayoutBounds();
+        double newWidth = Math.max(bounds.getWidth(), minWidth);
+        double newHeight = Math.max(bounds.getHeight(), minHeight);
+        if (newWidth != bounds.getWidth() || newHeight != bounds.getHeight()) {
+            popupContent.resize(newWidth, newHeight);
+            if (popupContent instanceof Region) {
+                ((Region) popupContent).setMinSize(newWidth, newHeight);
+                ((Region) popupContent).setPrefSize(newWidth, newHeight);
+            }
+        }
     }
 
-    @Override
     protected Node getPopupContent() {
         if (content == null) {
+            DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+            long start = metrics != null ? System.nanoTime() : 0;
             // different chronologies are not supported yet
-            content = new JFXDateTimePickerContent(dateTimePicker);
+            content = isPopupContentShared() ?
+                DateTimePickerContentPool.acquire(dateTimePicker) : new JFXDateTimePickerContent(dateTimePicker);
+            if (metrics != null) {
+                metrics.record(Timing.POPUP_BUILD, System.nanoTime() - start);
+            }
         }
         return content;
     }
 
+    private boolean isPopupContentShared() {
+        // the overlay dialog keeps its own content
+        return dateTimePicker.isSharedPopupContent() && !dateTimePicker.isOverLay();
+    }
+
+    /*
+     * takes a content from the pool, and moves it back into this popup
+     * if it has been shown by another picker meanwhile
+     */
+    private void acquireSharedContent() {
+        getPopupContent();
+        if (popup != null && content.getScene() != popup.getScene()) {
+            // resetting the popup skin adds the skin node to the popup again
+            Skin<?> popupSkin = popup.getSkin();
+            popup.setSkin(null);
+            popup.setSkin(popupSkin);
+        }
+    }
+
+    /*
+     * called by the base skin when the picker is shown
+     */
     @Override
     public void show() {
-        if (!dateTimePicker.isOverLay()) {
-            super.show();
+        DateTimePickerMetricsListener metrics = dateTimePicker.getMetricsListener();
+        long start = metrics != null ? System.nanoTime() : 0;
+        if (isPopupContentShared()) {
+            acquireSharedContent();
+        }
+        if (content != null) {
+            LocalDateTime dateTime = content.getEditedDateTime();
+            // set the current date / now when showing the date picker content
+            content.displayedYearMonthProperty().set((dateTime != null) ?
+                YearMonth.from(dateTime) : YearMonth.now());
+            content.updateValues();
+        }
+        if (!dateTimePicker.isOverLay() && dateTimePicker.getScene() != null) {
+            positionAndShowPopup();
         }
         if (content != null) {
             content.init();
@@ -148,7 +412,7 @@ public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
                 dialogParent = (StackPane) dateTimePicker.getScene().getRoot();
             }
             dialog = new JFXDialog(dialogParent, (Region) getPopupContent(), DialogTransition.CENTER, true);
-            arrowButton.setOnMouseClicked((click) -> {
+            getArrowButton().setOnMouseClicked((click) -> {
                 if (dateTimePicker.isOverLay()) {
                     StackPane parent = dateTimePicker.getDialogParent();
                     if (parent == null) {
@@ -158,33 +422,60 @@ public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
                 }
             });
         }
+        if (metrics != null) {
+            metrics.record(Timing.SHOW, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void hide() {
+        if (popup != null && popup.isShowing()) {
+            popup.hide();
+        }
+        if (!dateTimePicker.isShowing() && isPopupContentShared() && content != null) {
+            DateTimePickerContentPool.release(content);
+            content = null;
+        }
     }
 
     @Override
     protected void handleControlPropertyChanged(String p) {
         if ("DEFAULT_COLOR".equals(p)) {
             ((JFXTextField) getEditor()).setFocusColor(dateTimePicker.getDefaultColor());
+            if (content != null) {
+                // the selected / today cells are painted with the default color
+                content.invalidateDayCells();
+            }
         } else if ("DAY_CELL_FACTORY".equals(p)) {
             updateDisplayNode();
-            content = null;
-            popup = null;
+            if (content != null) {
+                // only the day cells are created again
+                content.rebuildDayCells();
+                content.updateValues();
+            }
+        } else if ("DATE_AVAILABILITY_PROVIDER".equals(p)) {
+            if (content != null) {
+                // the availabilities of the new provider are queried by the day cells refresh
+                content.updateValues();
+            }
+        } else if ("TIME_SLOT_AVAILABILITY_PROVIDER".equals(p)) {
+            if (content != null) {
+                content.updateTimeSlots();
+            }
+        } else if ("SELECTION".equals(p)) {
+            if (content != null) {
+                content.updateRange();
+            }
+        } else if ("PREWARM_POPUP".equals(p)) {
+            if (dateTimePicker.isPrewarmPopup() && content == null) {
+                prewarmPopupContent();
+            }
+        } else if ("SEGMENTED_EDITING".equals(p)) {
+            updateSegmentedEditor();
         } else if ("CONVERTER".equals(p)) {
             updateDisplayNode();
         } else if ("EDITOR".equals(p)) {
             getEditableInputNode();
-        } else if ("SHOWING".equals(p)) {
-            if (dateTimePicker.isShowing()) {
-                if (content != null) {
-                    LocalDateTime dateTime = dateTimePicker.getValue();
-                    // set the current date / now when showing the date picker content
-                    content.displayedYearMonthProperty().set((dateTime != null) ?
-                        YearMonth.from(dateTime) : YearMonth.now());
-                    content.updateValues();
-                }
-                show();
-            } else {
-                hide();
-            }
         } else if ("SHOW_WEEK_NUMBERS".equals(p)) {
             if (content != null) {
                 // update the content grid to show week numbers
@@ -193,28 +484,229 @@ public class JFXDateTimePickerSkin extends ComboBoxPopupControl<LocalDateTime> {
             }
         } else if ("VALUE".equals(p)) {
             updateDisplayNode();
+            LocalDateTime dateTime = dateTimePicker.getValue();
             if (content != null) {
-                LocalDateTime dateTime = dateTimePicker.getValue();
-                content.displayedYearMonthProperty().set((dateTime != null) ?
-                    YearMonth.from(dateTime) : YearMonth.now());
-                content.updateValues();
+                updateContentValue(lastValue, dateTime);
             }
+            lastValue = dateTime;
             dateTimePicker.fireEvent(new ActionEvent());
         } else {
             super.handleControlPropertyChanged(p);
         }
     }
 
-    @Override
+    /*
+     * the calendar is only refreshed if the date part of the value has changed,
+     * and the clock if the time part has changed
+     */
+    private void updateContentValue(LocalDateTime oldValue, LocalDateTime newValue) {
+        LocalDate oldDate = oldValue == null ? null : oldValue.toLocalDate();
+        LocalDate newDate = newValue == null ? null : newValue.toLocalDate();
+        if (newDate == null || !newDate.equals(oldDate)) {
+            content.displayedYearMonthProperty().set(newDate != null ?
+                YearMonth.from(newDate) : YearMonth.now());
+            content.updateValues();
+            calendarRefreshCount++;
+        } else {
+            skippedCalendarRefreshCount++;
+        }
+        LocalTime oldTime = oldValue == null ? null : oldValue.toLocalTime();
+        LocalTime newTime = newValue == null ? null : newValue.toLocalTime();
+        if (newTime != null && !newTime.equals(oldTime)) {
+            content.goToTime(newValue);
+            clockRefreshCount++;
+        } else {
+            skippedClockRefreshCount++;
+        }
+    }
+
+    /**
+     * @return the number of value changes that have refreshed the calendar
+     */
+    public long getCalendarRefreshCount() {
+        return calendarRefreshCount;
+    }
+
+    /**
+     * @return the number of value changes that haven't refreshed the calendar,
+     * because the date part of the value was unchanged
+     */
+    public long getSkippedCalendarRefreshCount() {
+        return skippedCalendarRefreshCount;
+    }
+
+    /**
+     * @return the number of value changes that have refreshed the clock
+     */
+    public long getClockRefreshCount() {
+        return clockRefreshCount;
+    }
+
+    /**
+     * @return the number of value changes that haven't refreshed the clock,
+     * because the time part of the value was unchanged
+     */
+    public long getSkippedClockRefreshCount() {
+        return skippedClockRefreshCount;
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Editor                                                                  *
+     *                                                                         *
+     **************************************************************************/
+
     protected TextField getEditor() {
         return ((JFXDateTimePicker) getSkinnable()).getEditor();
     }
 
-    @Override
     protected StringConverter<LocalDateTime> getConverter() {
         return ((JFXDateTimePicker) getSkinnable()).getConverter();
     }
 
+    protected TextField getEditableInputNode() {
+        if (textField == null && getEditor() != null) {
+            textField = getEditor();
+            textField.setFocusTraversable(false);
+            textField.promptTextProperty().bind(dateTimePicker.promptTextProperty());
+            textField.tooltipProperty().bind(dateTimePicker.tooltipProperty());
+            textField.focusedProperty().addListener((obj, oldVal, hasFocus) -> {
+                if (!hasFocus) {
+                    setTextFromTextFieldIntoComboBoxValue();
+                }
+                getSkinnable().pseudoClassStateChanged(CONTAINS_FOCUS_PSEUDOCLASS_STATE, hasFocus);
+            });
+            // enter and F4 are handled before the text field gets them
+            textField.addEventFilter(KeyEvent.ANY, event -> handleKeyEvent(event, true));
+        }
+        return textField;
+    }
+
+    private void updateSegmentedEditor() {
+        if (dateTimePicker.isSegmentedEditing() && segmentedEditor == null && textField != null) {
+            segmentedEditor = new SegmentedEditor(dateTimePicker, textField, SegmentedDateTimeLayout.of(Locale.getDefault()));
+        } else if (!dateTimePicker.isSegmentedEditing() && segmentedEditor != null) {
+            segmentedEditor.dispose();
+            segmentedEditor = null;
+            updateDisplayNode();
+        }
+    }
+
+    /**
+     * parses the editor text into the picker value, the value is kept
+     * if the text can't be parsed
+     */
+    protected void setTextFromTextFieldIntoComboBoxValue() {
+        if (textField == null) {
+            return;
+        }
+        if (segmentedEditor != null) {
+            // the segments are already parsed
+            segmentedEditor.commit();
+            return;
+        }
+        StringConverter<LocalDateTime> converter = getConverter();
+        if (converter == null) {
+            return;
+        }
+        LocalDateTime oldValue = dateTimePicker.getValue();
+        LocalDateTime value = oldValue;
+        String text = textField.getText();
+        if (oldValue == null && (text == null || text.isEmpty())) {
+            value = null;
+        } else {
+            try {
+                value = converter.fromString(text);
+            } catch (DateTimeParseException ex) {
+                // the previous value is restored
+            }
+        }
+        if ((value != null || oldValue != null) && !Objects.equals(value, oldValue)) {
+            dateTimePicker.setValue(value);
+        }
+        updateDisplayNode();
+    }
+
+    protected void updateDisplayNode() {
+        if (textField == null) {
+            return;
+        }
+        LocalDateTime value = dateTimePicker.getValue();
+        if (segmentedEditor != null) {
+            segmentedEditor.update(value);
+            return;
+        }
+        String text = value == null ? null : getConverter().toString(value);
+        if (text == null) {
+            textField.setText("");
+        } else if (!text.equals(textField.getText())) {
+            textField.setText(text);
+        }
+    }
+
+    private void filterKeyEvent(KeyEvent event) {
+        if (textField == null) {
+            handleKeyEvent(event, false);
+        } else if (!textField.equals(event.getTarget())) {
+            switch (event.getCode()) {
+                case ESCAPE:
+                case F10:
+                    // the behavior handles them
+                    break;
+                case ENTER:
+                    handleKeyEvent(event, true);
+                    break;
+                default:
+                    textField.fireEvent(event.copyFor(textField, textField));
+                    event.consume();
+            }
+        }
+    }
+
+    private void handleKeyEvent(KeyEvent event, boolean doConsume) {
+        if (event.getCode() == KeyCode.ENTER) {
+            if (event.getEventType() == KeyEvent.KEY_PRESSED) {
+                setTextFromTextFieldIntoComboBoxValue();
+            }
+            if (doConsume && dateTimePicker.getOnAction() != null) {
+                event.consume();
+            }
+        } else if (event.getCode() == KeyCode.F4) {
+            if (event.getEventType() == KeyEvent.KEY_RELEASED) {
+                if (dateTimePicker.isShowing()) {
+                    dateTimePicker.hide();
+                } else {
+                    dateTimePicker.show();
+                }
+            }
+            event.consume();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        dateTimePicker.focusedProperty().removeListener(focusListener);
+        dateTimePicker.removeEventFilter(KeyEvent.ANY, keyFilter);
+        dateTimePicker.getSelectedDates().removeListener(selectedDatesListener);
+        if (segmentedEditor != null) {
+            segmentedEditor.dispose();
+            segmentedEditor = null;
+        }
+        if (popup != null) {
+            hide();
+            dateTimePicker.layoutXProperty().removeListener(layoutPosListener);
+            dateTimePicker.layoutYProperty().removeListener(layoutPosListener);
+            dateTimePicker.widthProperty().removeListener(layoutPosListener);
+            dateTimePicker.heightProperty().removeListener(layoutPosListener);
+            dateTimePicker.sceneProperty().removeListener(sceneListener);
+        }
+        if (isPopupContentShared() && content != null) {
+            DateTimePickerContentPool.release(content);
+            content = null;
+        }
+        super.dispose();
+    }
+
     @Override
     public Node getDisplayNode() {
         if (displayNode == null) {
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DecimalStyle;
+import java.time.temporal.WeekFields;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MonthLayoutCache is a bounded LRU cache of the calendar grid layouts used by
+ * {@link JFXDateTimePickerContent}, shared by all the date time pickers of the JVM.
+ * <p>A layout holds the epoch days of the 42 day cells of a month together with
+ * their localized labels and the week number labels, so navigating to an already
+ * visited month is a table lookup.</p>
+ *
+ * @author Roman Gorovoy
+ */
+public final class MonthLayoutCache {
+
+    /**
+     * the default maximum number of cached month layouts
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int WEEKS = 6;
+
+    private static final DateTimeFormatter dayCellFormatter = DateTimeFormatter.ofPattern("d");
+    private static final DateTimeFormatter weekNumberFormatter = DateTimeFormatter.ofPattern("w");
+
+    private static int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    private static long hitCount = 0;
+    private static long missCount = 0;
+
+    private static final Map<Key, MonthLayout> layouts = new LinkedHashMap<Key, MonthLayout>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, MonthLayout> eldest) {
+            return size() > maximumSize;
+        }
+    };
+
+    // the lookup key, reused under the lock so a cache hit allocates nothing
+    private static final Key probe = new Key();
+
+    private MonthLayoutCache() {
+    }
+
+    /**
+     * returns the layout of the specified month, computing it if it's not cached yet.
+     * this method can be called from any thread.
+     */
+    static MonthLayout get(YearMonth yearMonth, Locale locale, Chronology chrono) {
+        synchronized (MonthLayoutCache.class) {
+            MonthLayout layout = layouts.get(probe.set(yearMonth, locale, chrono));
+            if (layout != null) {
+                hitCount++;
+                return layout;
+            }
+            missCount++;
+        }
+        // computed outside the lock, in the worst case a layout is computed twice
+        MonthLayout layout = new MonthLayout(yearMonth, locale, chrono);
+        synchronized (MonthLayoutCache.class) {
+            layouts.put(new Key().set(yearMonth, locale, chrono), layout);
+        }
+        return layout;
+    }
+
+    public static synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public static synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public static synchronized int size() {
+        return layouts.size();
+    }
+
+    public static synchronized int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * sets the maximum number of cached month layouts, the least recently
+     * used layouts are evicted when the cache grows beyond this size
+     */
+    public static synchronized void setMaximumSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("maximum size must be positive: " + size);
+        }
+        maximumSize = size;
+        while (layouts.size() > maximumSize) {
+            layouts.remove(layouts.keySet().iterator().next());
+        }
+    }
+
+    public static synchronized void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    public static synchronized void clear() {
+        layouts.clear();
+    }
+
+    /**
+     * immutable layout of one month in the calendar grid
+     */
+    static final class MonthLayout {
+
+        /**
+         * epoch day value of the cells that are not part of the month
+         */
+        static final long NO_DAY = Long.MIN_VALUE;
+
+        final YearMonth yearMonth;
+        final int firstOfMonthIndex;
+        final int lengthOfMonth;
+        // epoch day of each day cell, NO_DAY for the previous / next month cells
+        final long[] epochDays = new long[WEEKS * DAYS_PER_WEEK];
+        // label of each day cell, null if the day is out of the chronology range
+        final String[] dayLabels = new String[WEEKS * DAYS_PER_WEEK];
+        final String[] weekNumberLabels = new String[WEEKS];
+
+        private MonthLayout(YearMonth yearMonth, Locale locale, Chronology chrono) {
+            this.yearMonth = yearMonth;
+            LocalDate firstDayOfMonth = yearMonth.atDay(1);
+            int firstDayOfWeek = WeekFields.of(locale).getFirstDayOfWeek().getValue();
+            int index = firstDayOfMonth.getDayOfWeek().getValue() - firstDayOfWeek;
+            firstOfMonthIndex = index < 0 ? index + DAYS_PER_WEEK : index;
+            lengthOfMonth = yearMonth.lengthOfMonth();
+
+            DecimalStyle decimalStyle = DecimalStyle.of(locale);
+            DateTimeFormatter dayFormatter = dayCellFormatter.withLocale(locale)
+                .withChronology(chrono)
+                .withDecimalStyle(decimalStyle);
+            long firstDayEpochDay = firstDayOfMonth.toEpochDay();
+            for (int i = 0; i < epochDays.length; i++) {
+                int dayIndex = i - firstOfMonthIndex + 1;
+                if (dayIndex < 1 || dayIndex > lengthOfMonth) {
+                    epochDays[i] = NO_DAY;
+                    continue;
+                }
+                epochDays[i] = firstDayEpochDay + dayIndex - 1;
+                try {
+                    dayLabels[i] = dayFormatter.format(chrono.date(firstDayOfMonth.plusDays(dayIndex - 1)));
+                } catch (DateTimeException ex) {
+                    // the day is out of the chronology range
+                    dayLabels[i] = null;
+                }
+            }
+
+            DateTimeFormatter weekFormatter = weekNumberFormatter.withLocale(locale).withDecimalStyle(decimalStyle);
+            for (int i = 0; i < WEEKS; i++) {
+                weekNumberLabels[i] = weekFormatter.format(firstDayOfMonth.plusWeeks(i));
+            }
+        }
+    }
+
+    /*
+     * the keys of the map are never modified once they are put, only the probe is
+     */
+    private static final class Key {
+        private YearMonth yearMonth;
+        private Locale locale;
+        private Chronology chronology;
+        private int hash;
+
+        private Key set(YearMonth yearMonth, Locale locale, Chronology chronology) {
+            this.yearMonth = yearMonth;
+            this.locale = locale;
+            this.chronology = chronology;
+            this.hash = 31 * (31 * yearMonth.hashCode() + locale.hashCode()) + chronology.hashCode();
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return yearMonth.equals(key.yearMonth)
+                && locale.equals(key.locale)
+                && chronology.equals(key.chronology);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
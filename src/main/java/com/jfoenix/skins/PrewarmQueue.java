@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.skins;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * queue of the popup contents pre-warmed by the date time picker skins, built
+ * one per pulse so a form with many pre-warmed pickers doesn't build all their
+ * popups in the same pulse. It must only be used on the FX application thread.
+ *
+ * @author Roman Gorovoy
+ */
+final class PrewarmQueue {
+
+    private static final Queue<Runnable> builds = new ArrayDeque<>();
+
+    private static final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            Runnable build = builds.poll();
+            if (builds.isEmpty()) {
+                stop();
+            }
+            if (build != null) {
+                build.run();
+            }
+        }
+    };
+
+    private PrewarmQueue() {
+    }
+
+    /**
+     * runs the build in a later pulse, after the builds queued before it
+     */
+    static void add(Runnable build) {
+        builds.add(build);
+        timer.start();
+    }
+}
@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package com.jfoenix.skins;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoField;
+
+import com.jfoenix.controls.JFXDateTimePicker;
+import com.jfoenix.controls.SegmentedDateTimeLayout;
+
+import javafx.event.EventHandler;
+import javafx.scene.control.TextField;
+import javafx.scene.control.TextFormatter;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * segmented editing of the picker editor: the text is laid out by a
+ * {@link SegmentedDateTimeLayout}, and each keystroke only updates the int value
+ * of the active segment and the digits of that segment in the text.
+ * The keys that would make the segment invalid are rejected as they are typed,
+ * and the value is built from the segment values without parsing the text.
+ *
+ * @author Roman Gorovoy
+ */
+final class SegmentedEditor {
+
+    private final JFXDateTimePicker dateTimePicker;
+    private final TextField textField;
+    private final SegmentedDateTimeLayout layout;
+    private final TextFormatter<?> oldTextFormatter;
+
+    // the value of each segment, valid only if initialized
+    private final int[] values;
+    private boolean initialized = false;
+    // the active segment and the number of digits typed in it
+    private int segment = 0;
+    private int typedDigits = 0;
+    // set while the editor writes the text itself
+    private boolean updating = false;
+
+    private final int daySegment;
+    private final int monthSegment;
+    private final int yearSegment;
+
+    private final EventHandler<KeyEvent> keyTypedFilter = this::keyTyped;
+    private final EventHandler<KeyEvent> keyPressedFilter = this::keyPressed;
+    private final EventHandler<MouseEvent> mouseReleasedHandler = this::mouseReleased;
+
+    SegmentedEditor(JFXDateTimePicker dateTimePicker, TextField textField, SegmentedDateTimeLayout layout) {
+        this.dateTimePicker = dateTimePicker;
+        this.textField = textField;
+        this.layout = layout;
+        this.values = new int[layout.getSegmentCount()];
+        this.daySegment = layout.indexOf(ChronoField.DAY_OF_MONTH);
+        this.monthSegment = layout.indexOf(ChronoField.MONTH_OF_YEAR);
+        this.yearSegment = layout.indexOf(ChronoField.YEAR);
+
+        oldTextFormatter = textField.getTextFormatter();
+        textField.setTextFormatter(new TextFormatter<Object>(this::filterChange));
+        textField.addEventFilter(KeyEvent.KEY_TYPED, keyTypedFilter);
+        textField.addEventFilter(KeyEvent.KEY_PRESSED, keyPressedFilter);
+        textField.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandler);
+        update(dateTimePicker.getValue());
+    }
+
+    void dispose() {
+        textField.removeEventFilter(KeyEvent.KEY_TYPED, keyTypedFilter);
+        textField.removeEventFilter(KeyEvent.KEY_PRESSED, keyPressedFilter);
+        textField.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandler);
+        textField.setTextFormatter(oldTextFormatter);
+    }
+
+    /**
+     * writes the value into the segments, the text is only
+     * replaced if the value has changed. A value whose year doesn't fit
+     * the year segment is shown by the converter until a key is typed.
+     */
+    void update(LocalDateTime value) {
+        typedDigits = 0;
+        String text;
+        if (value == null) {
+            initialized = false;
+            text = "";
+        } else if (!isSupported(value)) {
+            initialized = false;
+            text = dateTimePicker.getConverter().toString(value);
+        } else {
+            layout.toValues(value, values);
+            initialized = true;
+            text = layout.format(values);
+        }
+        if (!text.equals(textField.getText())) {
+            updating = true;
+            try {
+                textField.setText(text);
+            } finally {
+                updating = false;
+            }
+        }
+    }
+
+    /**
+     * completes the active segment and sets the segment values into the picker value,
+     * the value is cleared if the text has been cleared
+     */
+    void commit() {
+        if (!initialized) {
+            if (textField.getText().isEmpty() && dateTimePicker.getValue() != null) {
+                dateTimePicker.setValue(null);
+            }
+            return;
+        }
+        finishSegment();
+        // the segments emptied by backspace and left behind are raised to their minimum
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] < getMinimum(i)) {
+                values[i] = getMinimum(i);
+                writeSegment(i);
+            }
+        }
+        clampDay();
+        LocalDateTime value = LocalDateTime.of(values[yearSegment], values[monthSegment], values[daySegment],
+            values[layout.indexOf(ChronoField.HOUR_OF_DAY)], values[layout.indexOf(ChronoField.MINUTE_OF_HOUR)]);
+        if (!value.equals(dateTimePicker.getValue())) {
+            dateTimePicker.setValue(value);
+        }
+        // the picker may have rejected the value
+        update(dateTimePicker.getValue());
+        selectSegment(segment);
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Keys                                                                    *
+     *                                                                         *
+     **************************************************************************/
+
+    private void keyTyped(KeyEvent event) {
+        String character = event.getCharacter();
+        if (!textField.isEditable() || character.isEmpty() || event.isControlDown() || event.isMetaDown()) {
+            return;
+        }
+        char c = character.charAt(0);
+        if (Character.isISOControl(c)) {
+            return;
+        }
+        // the text field never inserts the typed characters itself
+        event.consume();
+        if (c >= '0' && c <= '9') {
+            typeDigit(c - '0');
+        } else if (!Character.isLetterOrDigit(c) && typedDigits > 0) {
+            // a separator completes a partially typed segment
+            completeSegment();
+        }
+    }
+
+    private void keyPressed(KeyEvent event) {
+        if (!textField.isEditable() || event.isAltDown() || event.isControlDown() || event.isMetaDown()) {
+            return;
+        }
+        switch (event.getCode()) {
+            case UP:
+            case KP_UP:
+                step(1);
+                break;
+            case DOWN:
+            case KP_DOWN:
+                step(-1);
+                break;
+            case LEFT:
+            case KP_LEFT:
+                finishSegment();
+                selectSegment(Math.max(0, segment - 1));
+                break;
+            case RIGHT:
+            case KP_RIGHT:
+                finishSegment();
+                selectSegment(Math.min(values.length - 1, segment + 1));
+                break;
+            case HOME:
+                finishSegment();
+                selectSegment(0);
+                break;
+            case END:
+                finishSegment();
+                selectSegment(values.length - 1);
+                break;
+            case BACK_SPACE:
+            case DELETE:
+                deleteDigit();
+                break;
+            default:
+                // enter, F4, escape and tab are handled by the skin and the behavior
+                return;
+        }
+        event.consume();
+    }
+
+    private void mouseReleased(MouseEvent event) {
+        finishSegment();
+        selectSegment(layout.segmentAt(textField.getCaretPosition()));
+    }
+
+    private void typeDigit(int digit) {
+        initialize();
+        int value = typedDigits == 0 ? digit : values[segment] * 10 + digit;
+        int max = getTypingMaximum(segment);
+        if (value > max) {
+            return;
+        }
+        boolean complete = typedDigits + 1 == layout.getWidth(segment) || value * 10 > max;
+        if (complete && value < getMinimum(segment)) {
+            return;
+        }
+        values[segment] = value;
+        typedDigits++;
+        writeSegment(segment);
+        if (complete) {
+            completeSegment();
+        } else {
+            selectSegment(segment);
+        }
+    }
+
+    private void deleteDigit() {
+        if (!initialized) {
+            return;
+        }
+        if (typedDigits == 0) {
+            typedDigits = layout.getWidth(segment);
+        }
+        values[segment] /= 10;
+        typedDigits--;
+        writeSegment(segment);
+        selectSegment(segment);
+    }
+
+    private void step(int delta) {
+        initialize();
+        finishSegment();
+        int min = getMinimum(segment);
+        int max = getMaximum(segment);
+        int value = values[segment] + delta;
+        values[segment] = value > max ? min : value < min ? max : value;
+        writeSegment(segment);
+        clampDay();
+        commit();
+    }
+
+    /***************************************************************************
+     *                                                                         *
+     * Segments                                                                *
+     *                                                                         *
+     **************************************************************************/
+
+    /*
+     * the first typed key of an empty editor starts from the current date time
+     */
+    private void initialize() {
+        if (!initialized) {
+            LocalDateTime value = dateTimePicker.getValue();
+            if (value == null) {
+                value = LocalDateTime.now();
+            } else if (!isSupported(value)) {
+                value = value.withYear(value.getYear() < 0 ? 0 : 9999);
+            }
+            layout.toValues(value, values);
+            initialized = true;
+            typedDigits = 0;
+            updating = true;
+            try {
+                textField.setText(layout.format(values));
+            } finally {
+                updating = false;
+            }
+        }
+    }
+
+    private void completeSegment() {
+        typedDigits = 0;
+        clampDay();
+        commit();
+        if (segment < values.length - 1) {
+            selectSegment(segment + 1);
+        }
+    }
+
+    /*
+     * a partially typed or emptied segment is raised to its minimum,
+     * e.g. a single 0 typed in the month segment becomes January
+     */
+    private void finishSegment() {
+        typedDigits = 0;
+        if (initialized && values[segment] < getMinimum(segment)) {
+            values[segment] = getMinimum(segment);
+            writeSegment(segment);
+        }
+        clampDay();
+    }
+
+    /*
+     * the year segment holds 4 digits
+     */
+    private static boolean isSupported(LocalDateTime value) {
+        return value.getYear() >= 0 && value.getYear() <= 9999;
+    }
+
+    /*
+     * the day is lowered to the length of the month once the month and the year are known
+     */
+    private void clampDay() {
+        if (!initialized || values[monthSegment] < 1) {
+            // an emptied month is raised before the day is clamped
+            return;
+        }
+        int length = Month.of(values[monthSegment]).length(Year.isLeap(values[yearSegment]));
+        if (values[daySegment] > length) {
+            values[daySegment] = length;
+            writeSegment(daySegment);
+        }
+    }
+
+    private void selectSegment(int index) {
+        segment = index;
+        if (initialized) {
+            updating = true;
+            try {
+                textField.selectRange(layout.getStart(index), layout.getEnd(index));
+            } finally {
+                updating = false;
+            }
+        }
+    }
+
+    private void writeSegment(int index) {
+        updating = true;
+        try {
+            textField.replaceText(layout.getStart(index), layout.getEnd(index), layout.formatSegment(index, values[index]));
+        } finally {
+            updating = false;
+        }
+    }
+
+    private int getMinimum(int index) {
+        ChronoField field = layout.getField(index);
+        return field == ChronoField.YEAR ? 0 : (int) field.range().getMinimum();
+    }
+
+    private int getMaximum(int index) {
+        ChronoField field = layout.getField(index);
+        if (field == ChronoField.YEAR) {
+            return 9999;
+        } else if (field == ChronoField.DAY_OF_MONTH) {
+            return Month.of(values[monthSegment]).length(Year.isLeap(values[yearSegment]));
+        }
+        return (int) field.range().getMaximum();
+    }
+
+    /*
+     * while the day is typed, the month and the year typed after it are not known yet,
+     * so it's only checked against the longest length of the month, and clamped later
+     */
+    private int getTypingMaximum(int index) {
+        if (index == daySegment && (monthSegment > daySegment || yearSegment > daySegment)) {
+            return monthSegment > daySegment ? 31 : Month.of(values[monthSegment]).maxLength();
+        }
+        return getMaximum(index);
+    }
+
+    /*
+     * the changes that don't come from the editor, i.e. a paste or an undo,
+     * are only accepted if the whole text is a valid date time of the layout
+     */
+    private TextFormatter.Change filterChange(TextFormatter.Change change) {
+        if (updating || !change.isContentChange()) {
+            return change;
+        }
+        String text = change.getControlNewText();
+        if (text.isEmpty()) {
+            initialized = false;
+            typedDigits = 0;
+            return change;
+        }
+        int[] parsed = new int[values.length];
+        if (!layout.parse(text, parsed) || !isValid(parsed)) {
+            return null;
+        }
+        System.arraycopy(parsed, 0, values, 0, values.length);
+        initialized = true;
+        typedDigits = 0;
+        return change;
+    }
+
+    private boolean isValid(int[] parsed) {
+        for (int i = 0; i < parsed.length; i++) {
+            ChronoField field = layout.getField(i);
+            if (field != ChronoField.YEAR && !field.range().isValidValue(parsed[i])) {
+                return false;
+            }
+        }
+        return parsed[daySegment] <= Month.of(parsed[monthSegment]).length(Year.isLeap(parsed[yearSegment]));
+    }
+}
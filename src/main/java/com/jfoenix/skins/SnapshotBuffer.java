@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * SnapshotBuffer renders the outgoing view of a transition into an image that is
+ * reused by the next transitions, a new image is only allocated when the size
+ * of the rendered view changes.
+ *
+ * @author Roman Gorovoy
+ */
+final class SnapshotBuffer {
+
+    private final SnapshotParameters parameters = new SnapshotParameters();
+    private final ImageView imageView = new ImageView();
+    private WritableImage image;
+
+    SnapshotBuffer() {
+        parameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * renders the node into the buffer
+     *
+     * @return the image view showing the rendered node, reset to its initial position
+     */
+    ImageView capture(Node node, double width, double height) {
+        int imageWidth = Math.max(1, (int) width);
+        int imageHeight = Math.max(1, (int) height);
+        if (image == null || (int) image.getWidth() != imageWidth || (int) image.getHeight() != imageHeight) {
+            image = new WritableImage(imageWidth, imageHeight);
+        }
+        // the image is cleared with the transparent fill before rendering
+        node.snapshot(parameters, image);
+        imageView.setImage(image);
+        imageView.setTranslateX(0);
+        imageView.setTranslateY(0);
+        return imageView;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.jfoenix.skins;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.time.chrono.Chronology;
+import java.time.chrono.IsoChronology;
+
+import com.jfoenix.controls.ChronologyBounds;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * YearRangeList is an unmodifiable list of consecutive ISO years backed by its
+ * bounds only, the items are boxed when they are requested by the visible cells
+ * of the years list view.
+ * <p>The list only exposes a window of {@link #WINDOW_SIZE} years of the range,
+ * which is {@link #recenter(int) recentred} around the displayed year when it nears
+ * an edge of the window: the ISO range holds about 2e9 years, and the virtual flow
+ * of the list view walks or caches its rows up to the scrolled index.</p>
+ *
+ * @author Roman Gorovoy
+ */
+final class YearRangeList extends ObservableListBase<Integer> {
+
+    /**
+     * the maximum number of years exposed by the list
+     */
+    static final int WINDOW_SIZE = 401;
+    // distance to an edge of the window under which the window is recentred
+    private static final int WINDOW_MARGIN = 50;
+
+    private final int minimum;
+    private final int maximum;
+    // the exposed years, within the range
+    private int windowStart;
+    private final int windowSize;
+
+    YearRangeList(int minimum, int maximum) {
+        if (minimum > maximum) {
+            throw new IllegalArgumentException("empty year range: " + minimum + " - " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.windowStart = minimum;
+        this.windowSize = (int) Math.min((long) maximum - minimum + 1, WINDOW_SIZE);
+    }
+
+    /**
+     * @return the ISO years covered by the valid range of the specified chronology
+     */
+    static YearRangeList of(Chronology chrono) {
+        if (chrono == null || IsoChronology.INSTANCE.equals(chrono)) {
+            return new YearRangeList(Year.MIN_VALUE, Year.MAX_VALUE);
+        }
+        ChronologyBounds bounds = ChronologyBounds.of(chrono);
+        if (bounds.isEmpty()) {
+            return new YearRangeList(Year.MIN_VALUE, Year.MAX_VALUE);
+        }
+        return new YearRangeList(bounds.getMinDate().getYear(), bounds.getMaxDate().getYear());
+    }
+
+    int getMinimum() {
+        return minimum;
+    }
+
+    int getMaximum() {
+        return maximum;
+    }
+
+    private int getWindowEnd() {
+        return windowStart + windowSize - 1;
+    }
+
+    /**
+     * moves the window so the specified year is in its middle, clamped to the range bounds,
+     * if the year is out of the window or near one of its edges that isn't a range bound
+     */
+    void recenter(int year) {
+        year = Math.min(Math.max(year, minimum), maximum);
+        boolean nearStart = windowStart > minimum && year - windowStart < WINDOW_MARGIN;
+        boolean nearEnd = getWindowEnd() < maximum && getWindowEnd() - year < WINDOW_MARGIN;
+        if (!nearStart && !nearEnd) {
+            return;
+        }
+        int start = Math.min(Math.max(year - windowSize / 2, minimum), maximum - windowSize + 1);
+        if (start == windowStart) {
+            return;
+        }
+        List<Integer> removed = new ArrayList<>(this);
+        beginChange();
+        nextRemove(0, removed);
+        windowStart = start;
+        nextAdd(0, windowSize);
+        endChange();
+    }
+
+    /**
+     * @return the index of the specified year, clamped to the window bounds
+     */
+    int indexOf(int year) {
+        return Math.min(Math.max(year, windowStart), getWindowEnd()) - windowStart;
+    }
+
+    @Override
+    public Integer get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+        }
+        return windowStart + index;
+    }
+
+    @Override
+    public int size() {
+        return windowSize;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Integer)) {
+            return -1;
+        }
+        int year = (Integer) o;
+        return year < windowStart || year > getWindowEnd() ? -1 : year - windowStart;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+}